@@ -12,4 +12,11 @@ p([1, 2], 5)
 
 let a = nil
 
-StdLib.print(a==nil)
\ No newline at end of file
+StdLib.print(a==nil)
+
+// Lists may hold uninitialized (null) elements, which must not end map, filter or fold early
+let u
+let { map, filter, fold } = StdLib.List
+StdLib.print(StdLib.List.size(map([1, 2, 3], \(x) -> while (x < 0) x))) // "3"
+StdLib.print(fold([1, u, 3], 0, \(count, element) -> count + 1)) // "3"
+StdLib.print(StdLib.List.size(filter([1, u, 3], \(element) -> true))) // "3"
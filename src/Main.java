@@ -1,24 +1,64 @@
+import cache.ScriptCache;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import config.ExecutionEngine;
+import config.ExecutionLimits;
 import config.GryphonScriptModule;
-import gryphon.GryphonScript;
+import gryphon.GryphonScriptExecutor;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 public class Main {
-    private static final String USAGE_MESSAGE = "Usage: gryphonscript [path]";
+    private static final String USAGE_MESSAGE = "Usage: gryphonscript [--engine=treewalk|nodes|vm] [--max-stack-depth=n] [--cache-dir=path] [path]";
+    private static final String ENGINE_FLAG_PREFIX = "--engine=";
+    private static final String MAX_STACK_DEPTH_FLAG_PREFIX = "--max-stack-depth=";
+    private static final String CACHE_DIR_FLAG_PREFIX = "--cache-dir=";
 
     public static void main(String[] args) throws IOException {
-        Injector injector = Guice.createInjector(new GryphonScriptModule());
-        GryphonScript script = injector.getInstance(GryphonScript.class);
+        ExecutionEngine engine = ExecutionEngine.TREE_WALK;
+        int maxStackDepth = ExecutionLimits.DEFAULT_MAX_STACK_DEPTH;
+        ScriptCache scriptCache = ScriptCache.disabled();
+        List<String> positionalArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(ENGINE_FLAG_PREFIX)) {
+                Optional<ExecutionEngine> selectedEngine = ExecutionEngine.fromCliName(
+                        arg.substring(ENGINE_FLAG_PREFIX.length()));
+                if (selectedEngine.isEmpty()) promptUsageAndExit();
+                engine = selectedEngine.get();
+            } else if (arg.startsWith(MAX_STACK_DEPTH_FLAG_PREFIX)) {
+                maxStackDepth = parseMaxStackDepth(arg.substring(MAX_STACK_DEPTH_FLAG_PREFIX.length()));
+            } else if (arg.startsWith(CACHE_DIR_FLAG_PREFIX)) {
+                String cacheDirectory = arg.substring(CACHE_DIR_FLAG_PREFIX.length());
+                if (cacheDirectory.isEmpty()) promptUsageAndExit();
+                scriptCache = ScriptCache.inDirectory(Path.of(cacheDirectory));
+            } else {
+                positionalArgs.add(arg);
+            }
+        }
+
+        Injector injector = Guice.createInjector(new GryphonScriptModule(engine, new ExecutionLimits(maxStackDepth), scriptCache));
+        GryphonScriptExecutor executor = injector.getInstance(GryphonScriptExecutor.class);
 
-        switch (args.length) {
-            case 0 -> script.executeREPL();
-            case 1 -> script.executeFile(args[0]);
+        switch (positionalArgs.size()) {
+            case 0 -> executor.executeREPL();
+            case 1 -> executor.executeFile(positionalArgs.get(0));
             default -> promptUsageAndExit();
         }
     }
 
+    private static int parseMaxStackDepth(String value) {
+        try {
+            int maxStackDepth = Integer.parseInt(value);
+            if (maxStackDepth > 0) return maxStackDepth;
+        } catch (NumberFormatException ignored) { /* fall through to usage */ }
+        promptUsageAndExit();
+        return ExecutionLimits.DEFAULT_MAX_STACK_DEPTH;
+    }
+
     private static void promptUsageAndExit() {
         System.out.println(USAGE_MESSAGE);
         System.exit(64);
@@ -0,0 +1,125 @@
+package benchmark;
+
+import com.google.inject.Guice;
+import config.GryphonScriptModule;
+import gryphon.GryphonScriptExecutor;
+import interpreter.datatypes.GDouble;
+import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GObject;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import model.Token;
+import model.TokenType;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A microbenchmark of binary operations, reporting the time and the number of bytes allocated per operation for
+ * arithmetic and comparisons over integer, double and mixed operands, followed by the same figures per iteration of an
+ * arithmetic-heavy loop executed by the tree-walk interpreter. Allocation is measured with the HotSpot per-thread
+ * allocation counter, so this must be run on a HotSpot-based JVM.
+ *
+ * Run with no arguments, eg: java -cp out benchmark.BinaryOperationBenchmark
+ */
+public class BinaryOperationBenchmark {
+    private static final int WARM_UP_ITERATIONS = 5_000_000;
+    private static final int MEASURED_ITERATIONS = 20_000_000;
+    private static final int LOOP_ITERATIONS = 2_000_000;
+    private static final String LOOP_SCRIPT = """
+            let run = \\() -> {
+                let i = 0
+                let total = 0
+                while (i < %d) {
+                    total = total + i %% 7 * 2 - 1
+                    i = i + 1
+                }
+                total
+            }
+            run()
+            """;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final BinaryOperationEvaluator EVALUATOR = new BinaryOperationEvaluator();
+
+    // Prevents the JIT from eliminating the benchmarked operations as dead code
+    private static int sink = 0;
+
+    private record Scenario(String name, Token operator, GObject left, GObject right) {
+        Scenario(String name, TokenType operatorType, GObject left, GObject right) {
+            this(name, new Token(operatorType, operatorType.name(), null, 1, false), left, right);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Scenario[] scenarios = {
+                new Scenario("integer addition", TokenType.PLUS, GInteger.of(3), GInteger.of(4)),
+                new Scenario("integer multiplication", TokenType.STAR, GInteger.of(3), GInteger.of(4)),
+                new Scenario("integer comparison", TokenType.LESS, GInteger.of(3), GInteger.of(4)),
+                new Scenario("integer equality", TokenType.EQUAL_EQUAL, GInteger.of(3), GInteger.of(4)),
+                new Scenario("double addition", TokenType.PLUS, GDouble.of(3.5), GDouble.of(4.5)),
+                new Scenario("double comparison", TokenType.LESS, GDouble.of(3.5), GDouble.of(4.5)),
+                new Scenario("mixed comparison", TokenType.GREATER_EQUAL, GInteger.of(3), GDouble.of(4.5)),
+        };
+
+        // Warm up every scenario before measuring any, so that the evaluator is compiled against the same mix of
+        // operators and operand types that it sees when interpreting a real script
+        for (Scenario scenario : scenarios) {
+            iterate(scenario.operator(), scenario.left(), scenario.right(), WARM_UP_ITERATIONS);
+        }
+
+        System.out.printf("%-28s %12s %12s%n", "scenario", "ns/op", "bytes/op");
+        for (Scenario scenario : scenarios) {
+            run(scenario.name(), scenario.operator(), scenario.left(), scenario.right());
+        }
+        runLoop();
+        System.out.println(sink == 42 ? "" : "done");
+    }
+
+    private static void runLoop() throws IOException {
+        Path script = Files.createTempFile("binary-operation-benchmark", ".gs");
+        try {
+            Files.writeString(script, String.format(LOOP_SCRIPT, LOOP_ITERATIONS));
+            GryphonScriptExecutor gryphonScript = Guice.createInjector(new GryphonScriptModule()).getInstance(GryphonScriptExecutor.class);
+
+            // The first execution warms up the JIT, as every execution runs in a fresh interpreter
+            gryphonScript.executeFile(script.toString());
+
+            long threadId = Thread.currentThread().threadId();
+            long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+            long startTime = System.nanoTime();
+            gryphonScript.executeFile(script.toString());
+            long elapsed = System.nanoTime() - startTime;
+            long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            System.out.printf("%-28s %12.2f %12.2f%n",
+                    "interpreted loop iteration",
+                    (double) elapsed / LOOP_ITERATIONS,
+                    (double) allocated / LOOP_ITERATIONS);
+        } finally {
+            Files.delete(script);
+        }
+    }
+
+    private static void run(String scenario, Token operator, GObject left, GObject right) {
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        iterate(operator, left, right, MEASURED_ITERATIONS);
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-28s %12.2f %12.2f%n",
+                scenario,
+                (double) elapsed / MEASURED_ITERATIONS,
+                (double) allocated / MEASURED_ITERATIONS);
+    }
+
+    private static void iterate(Token operator, GObject left, GObject right, int iterations) {
+        for (int i = 0; i < iterations; i ++) {
+            sink += EVALUATOR.evaluateOperation(operator, left, right).hashCode();
+        }
+    }
+}
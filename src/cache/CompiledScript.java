@@ -0,0 +1,11 @@
+package cache;
+
+import model.Expression;
+import resolver.ResolutionTable;
+
+import java.util.List;
+
+/**
+ * A program which has been through every stage before execution: its desugared expressions, and their resolution
+ */
+public record CompiledScript(List<Expression> expressions, ResolutionTable resolutionTable) {}
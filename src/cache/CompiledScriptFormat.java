@@ -0,0 +1,65 @@
+package cache;
+
+/**
+ * The binary format of a cached CompiledScript, which is made up of:
+ *   → A header of the magic number and the format version
+ *   → The number of top-level expressions, followed by each expression tree in pre-order. Every node starts with one
+ *     of the tags below. A node which appears more than once in the program is only written the first time, and is then
+ *     referred to by its index, which is assigned in the order in which nodes are completed (ie: post-order).
+ *   → Each section of the ResolutionTable, as a count followed by the node index (and the data) of each entry. Entries
+ *     are sorted by node index, and each index is written as the difference from the one before it.
+ *
+ * Integers are written as variable-length quantities. Each distinct string and token is written once, then referred
+ * to by its index, so the identifiers and tokens repeated throughout a program cost a byte or two per occurrence.
+ */
+final class CompiledScriptFormat {
+    static final int MAGIC = 0x47534331;
+    // Must be incremented whenever the format, the Expression model or the output of any earlier stage changes, so
+    // that scripts cached by an older interpreter are recompiled rather than loaded
+    static final int VERSION = 1;
+
+    // Expression tags
+    static final int NULL = 0;
+    static final int BACK_REFERENCE = 1;
+    static final int LITERAL = 2;
+    static final int LIST_LITERAL = 3;
+    static final int STRUCT_FIELD_DECLARATION = 4;
+    static final int STRUCT_LITERAL = 5;
+    static final int VARIABLE = 6;
+    static final int DECLARATION = 7;
+    static final int ASSIGNMENT = 8;
+    static final int INDEX_ASSIGNMENT = 9;
+    static final int UNARY = 10;
+    static final int OPERATION = 11;
+    static final int LOGICAL = 12;
+    static final int INFIX = 13;
+    static final int GROUP = 14;
+    static final int BLOCK = 15;
+    static final int IF = 16;
+    static final int WHILE = 17;
+    static final int LAMBDA = 18;
+    static final int INVOCATION = 19;
+    static final int INDEX = 20;
+
+    // Literal value tags
+    static final int NIL_VALUE = 0;
+    static final int HOLE_VALUE = 1;
+    static final int TRUE_VALUE = 2;
+    static final int FALSE_VALUE = 3;
+    static final int INTEGER_VALUE = 4;
+    static final int DOUBLE_VALUE = 5;
+    static final int STRING_VALUE = 6;
+    static final int SYMBOL_VALUE = 7;
+
+    // Token literal tags
+    static final int NO_TOKEN_LITERAL = 0;
+    static final int LONG_TOKEN_LITERAL = 1;
+    static final int DOUBLE_TOKEN_LITERAL = 2;
+    static final int STRING_TOKEN_LITERAL = 3;
+
+    // Tokens are written like strings: null, a new token, or else the index of a token already written offset by two
+    static final int NULL_TOKEN = 0;
+    static final int NEW_TOKEN = 1;
+
+    private CompiledScriptFormat() {}
+}
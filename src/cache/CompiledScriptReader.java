@@ -0,0 +1,212 @@
+package cache;
+
+import interpreter.datatypes.GBoolean;
+import interpreter.datatypes.GDouble;
+import interpreter.datatypes.GHole;
+import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import model.Expression;
+import model.SymbolTable;
+import model.Token;
+import model.TokenType;
+import resolver.ResolutionTable;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static cache.CompiledScriptFormat.*;
+
+/**
+ * Reads a CompiledScript written by {@link CompiledScriptWriter}. The ResolutionTable is rebuilt by resolving each
+ * persisted entry again, so every invocation and field access site starts with a fresh, empty cache.
+ */
+class CompiledScriptReader {
+    private final DataInputStream input;
+    // Indexed by the order in which nodes were completed, to resolve back references and resolution entries
+    private final List<Expression> nodes = new ArrayList<>();
+    private final List<Token> tokens = new ArrayList<>();
+    private final List<String> strings = new ArrayList<>();
+    // Node indices within each section of the ResolutionTable are written as the difference from the previous index
+    private int previousNodeIndex;
+
+    CompiledScriptReader(InputStream input) {
+        this.input = new DataInputStream(input);
+    }
+
+    /**
+     * @throws IOException if the input is not a script cached by this version of the interpreter
+     * @throws RuntimeException if the input is corrupt (eg: a ClassCastException or IndexOutOfBoundsException)
+     */
+    CompiledScript read() throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("Not a compiled script of format version " + VERSION);
+        }
+        List<Expression> expressions = readExpressions();
+        ResolutionTable resolutionTable = readResolutionTable();
+        return new CompiledScript(expressions, resolutionTable);
+    }
+
+    private Expression readExpression() throws IOException {
+        int tag = input.readUnsignedByte();
+        if (tag == NULL) return null;
+        if (tag == BACK_REFERENCE) return nodes.get(readVarInt());
+
+        Expression expression = switch (tag) {
+            case LITERAL -> new Expression.Literal(readValue());
+            case LIST_LITERAL -> new Expression.ListLiteral(readExpressions(), readToken());
+            case STRUCT_FIELD_DECLARATION -> new Expression.StructFieldDeclaration(readToken(), readExpression());
+            case STRUCT_LITERAL -> new Expression.StructLiteral(readExpressions(), readToken());
+            case VARIABLE -> new Expression.Variable(readToken());
+            case DECLARATION -> new Expression.Declaration(readToken(), readExpression());
+            case ASSIGNMENT -> new Expression.Assignment(readToken(), readExpression());
+            case INDEX_ASSIGNMENT -> new Expression.IndexAssignment(readExpression(), readExpression(), readExpression(), readToken());
+            case UNARY -> new Expression.Unary(readToken(), readExpression());
+            case OPERATION -> new Expression.Binary.Operation(readExpression(), readExpression(), readToken());
+            case LOGICAL -> new Expression.Binary.Logical(readExpression(), readExpression(), readToken());
+            case INFIX -> new Expression.Binary.Infix(readExpression(), readExpression(), readToken());
+            case GROUP -> new Expression.Group(readExpression());
+            case BLOCK -> new Expression.Block(readExpressions());
+            case IF -> new Expression.If(readExpression(), readExpression(), readExpression());
+            case WHILE -> new Expression.While(readExpression(), readExpression());
+            case LAMBDA -> new Expression.Lambda(readTokens(), readExpression(), input.readBoolean());
+            case INVOCATION -> new Expression.Invocation(readExpression(), readToken(), readExpressions());
+            case INDEX -> new Expression.Index(readExpression(), readToken(), readExpression());
+            default -> throw new IOException("Unknown expression tag " + tag);
+        };
+        nodes.add(expression);
+        return expression;
+    }
+
+    private List<Expression> readExpressions() throws IOException {
+        int size = readVarInt();
+        List<Expression> expressions = new ArrayList<>(size);
+        for (int i = 0; i < size; i ++) {
+            expressions.add(readExpression());
+        }
+        return expressions;
+    }
+
+    private GObject readValue() throws IOException {
+        int tag = input.readUnsignedByte();
+        return switch (tag) {
+            case NIL_VALUE -> GNil.INSTANCE;
+            case HOLE_VALUE -> GHole.INSTANCE;
+            case TRUE_VALUE -> GBoolean.TRUE;
+            case FALSE_VALUE -> GBoolean.FALSE;
+            case INTEGER_VALUE -> GInteger.of(readSignedVarLong());
+            case DOUBLE_VALUE -> GDouble.of(input.readDouble());
+            case STRING_VALUE -> new GString(readString());
+            case SYMBOL_VALUE -> SymbolTable.intern(readString());
+            default -> throw new IOException("Unknown value tag " + tag);
+        };
+    }
+
+    private Token readToken() throws IOException {
+        int tokenIndex = readVarInt();
+        if (tokenIndex == NULL_TOKEN) return null;
+        if (tokenIndex != NEW_TOKEN) return tokens.get(tokenIndex - 2);
+
+        String typeName = readString();
+        TokenType type = typeName != null ? TokenType.valueOf(typeName) : null;
+        String lexeme = readString();
+        // Identifiers are interned by the tokenizer, so that variables can be looked up by identity
+        if (type == TokenType.IDENTIFIER) lexeme = SymbolTable.internName(lexeme);
+        int literalTag = input.readUnsignedByte();
+        Object literal = switch (literalTag) {
+            case NO_TOKEN_LITERAL -> null;
+            case LONG_TOKEN_LITERAL -> readSignedVarLong();
+            case DOUBLE_TOKEN_LITERAL -> input.readDouble();
+            case STRING_TOKEN_LITERAL -> readString();
+            default -> throw new IOException("Unknown token literal tag " + literalTag);
+        };
+        int line = (int) readSignedVarLong();
+        Token token = new Token(type, lexeme, literal, line, input.readBoolean());
+        tokens.add(token);
+        return token;
+    }
+
+    private List<Token> readTokens() throws IOException {
+        int size = readVarInt();
+        List<Token> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i ++) {
+            tokens.add(readToken());
+        }
+        return tokens;
+    }
+
+    private ResolutionTable readResolutionTable() throws IOException {
+        ResolutionTable resolutionTable = new ResolutionTable();
+
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveStackSlot(readNode(), readVarInt(), readVarInt());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveScopeSize(readNode(), readVarInt());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveElidedScope((Expression.Block) readNode());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveReusableScope((Expression.Block) readNode());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveTailCall(readNode());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolveInvocationSite((Expression.Invocation) readNode());
+        }
+        for (int i = readSectionSize(); i > 0; i --) {
+            resolutionTable.resolvePropertySite(readNode(), (GString) readValue());
+        }
+        return resolutionTable;
+    }
+
+    private int readSectionSize() throws IOException {
+        previousNodeIndex = 0;
+        return readVarInt();
+    }
+
+    private Expression readNode() throws IOException {
+        previousNodeIndex += readVarInt();
+        return nodes.get(previousNodeIndex);
+    }
+
+    private String readString() throws IOException {
+        int stringIndex = readVarInt();
+        if (stringIndex == 0) return null;
+        if (stringIndex > 1) return strings.get(stringIndex - 2);
+
+        byte[] bytes = new byte[readVarInt()];
+        input.readFully(bytes);
+        String string = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(string);
+        return string;
+    }
+
+    private int readVarInt() throws IOException {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) throw new IOException("Malformed variable-length integer");
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int currentByte = input.readUnsignedByte();
+            value |= (long) (currentByte & 0x7F) << shift;
+            if ((currentByte & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private long readSignedVarLong() throws IOException {
+        long zigzagValue = readVarLong();
+        return (zigzagValue >>> 1) ^ -(zigzagValue & 1);
+    }
+}
@@ -0,0 +1,326 @@
+package cache;
+
+import interpreter.datatypes.GBoolean;
+import interpreter.datatypes.GDouble;
+import interpreter.datatypes.GHole;
+import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import model.Expression;
+import model.SugarExpression;
+import model.SymbolTable;
+import model.Token;
+import resolver.ResolutionTable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static cache.CompiledScriptFormat.*;
+
+/**
+ * Writes a CompiledScript in the format described by {@link CompiledScriptFormat}. Each writer writes a single script.
+ */
+class CompiledScriptWriter {
+    private final DataOutputStream output;
+    private final Map<Expression, Integer> nodeIndices = new IdentityHashMap<>();
+    private final Map<Token, Integer> tokenIndices = new HashMap<>();
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+
+    CompiledScriptWriter(OutputStream output) {
+        this.output = new DataOutputStream(output);
+    }
+
+    /**
+     * @throws IllegalStateException if the script contains a node or value which cannot be cached
+     */
+    void write(CompiledScript script) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        writeExpressions(script.expressions());
+        writeResolutionTable(script.resolutionTable());
+        output.flush();
+    }
+
+    private void writeExpression(Expression expression) throws IOException {
+        if (expression == null) {
+            output.writeByte(NULL);
+            return;
+        }
+        Integer nodeIndex = nodeIndices.get(expression);
+        if (nodeIndex != null) {
+            output.writeByte(BACK_REFERENCE);
+            writeVarInt(nodeIndex);
+            return;
+        }
+
+        switch (expression) {
+            case Expression.Literal literal -> {
+                output.writeByte(LITERAL);
+                writeValue(literal.value());
+            }
+            case Expression.ListLiteral listLiteral -> {
+                output.writeByte(LIST_LITERAL);
+                writeExpressions(listLiteral.values());
+                writeToken(listLiteral.closingBracket());
+            }
+            case Expression.StructFieldDeclaration structFieldDeclaration -> {
+                output.writeByte(STRUCT_FIELD_DECLARATION);
+                writeToken(structFieldDeclaration.variable());
+                writeExpression(structFieldDeclaration.initializer());
+            }
+            case Expression.StructLiteral structLiteral -> {
+                output.writeByte(STRUCT_LITERAL);
+                writeExpressions(structLiteral.fields());
+                writeToken(structLiteral.closingBracket());
+            }
+            case Expression.Variable variable -> {
+                output.writeByte(VARIABLE);
+                writeToken(variable.name());
+            }
+            case Expression.Declaration declaration -> {
+                output.writeByte(DECLARATION);
+                writeToken(declaration.variable());
+                writeExpression(declaration.initializer());
+            }
+            case Expression.Assignment assignment -> {
+                output.writeByte(ASSIGNMENT);
+                writeToken(assignment.variable());
+                writeExpression(assignment.value());
+            }
+            case Expression.IndexAssignment indexAssignment -> {
+                output.writeByte(INDEX_ASSIGNMENT);
+                writeExpression(indexAssignment.assignee());
+                writeExpression(indexAssignment.index());
+                writeExpression(indexAssignment.value());
+                writeToken(indexAssignment.closingBracket());
+            }
+            case Expression.Unary unary -> {
+                output.writeByte(UNARY);
+                writeToken(unary.operator());
+                writeExpression(unary.right());
+            }
+            case Expression.Binary binary -> {
+                output.writeByte(switch (binary) {
+                    case Expression.Binary.Operation ignored -> OPERATION;
+                    case Expression.Binary.Logical ignored -> LOGICAL;
+                    case Expression.Binary.Infix ignored -> INFIX;
+                });
+                writeExpression(binary.left());
+                writeExpression(binary.right());
+                writeToken(binary.operator());
+            }
+            case Expression.Group group -> {
+                output.writeByte(GROUP);
+                writeExpression(group.expression());
+            }
+            case Expression.Block block -> {
+                output.writeByte(BLOCK);
+                writeExpressions(block.expressions());
+            }
+            case Expression.If ifExpression -> {
+                output.writeByte(IF);
+                writeExpression(ifExpression.condition());
+                writeExpression(ifExpression.thenBranch());
+                writeExpression(ifExpression.elseBranch());
+            }
+            case Expression.While whileExpression -> {
+                output.writeByte(WHILE);
+                writeExpression(whileExpression.condition());
+                writeExpression(whileExpression.body());
+            }
+            case Expression.Lambda lambda -> {
+                output.writeByte(LAMBDA);
+                writeVarInt(lambda.parameters().size());
+                for (Token parameter : lambda.parameters()) {
+                    writeToken(parameter);
+                }
+                writeExpression(lambda.body());
+                output.writeBoolean(lambda.combinable());
+            }
+            case Expression.Invocation invocation -> {
+                output.writeByte(INVOCATION);
+                writeExpression(invocation.callee());
+                writeToken(invocation.closingBracket());
+                writeExpressions(invocation.arguments());
+            }
+            case Expression.Index index -> {
+                output.writeByte(INDEX);
+                writeExpression(index.callee());
+                writeToken(index.closingBracketOrDot());
+                writeExpression(index.index());
+            }
+            case SugarExpression sugarExpression ->
+                    throw new IllegalStateException("Cannot cache an expression which has not been desugared: " + sugarExpression);
+        }
+        nodeIndices.put(expression, nodeIndices.size());
+    }
+
+    private void writeExpressions(List<Expression> expressions) throws IOException {
+        writeVarInt(expressions.size());
+        for (Expression expression : expressions) {
+            writeExpression(expression);
+        }
+    }
+
+    private void writeValue(GObject value) throws IOException {
+        switch (value) {
+            case GNil ignored -> output.writeByte(NIL_VALUE);
+            case GHole ignored -> output.writeByte(HOLE_VALUE);
+            case GBoolean gBoolean -> output.writeByte(gBoolean.booleanValue() ? TRUE_VALUE : FALSE_VALUE);
+            case GInteger gInteger -> {
+                output.writeByte(INTEGER_VALUE);
+                writeSignedVarLong(gInteger.longValue());
+            }
+            case GDouble gDouble -> {
+                output.writeByte(DOUBLE_VALUE);
+                output.writeDouble(gDouble.doubleValue());
+            }
+            case GString gString -> {
+                // Symbols must be re-interned when they are read, as lookups by field name compare them by identity
+                output.writeByte(SymbolTable.isInterned(gString) ? SYMBOL_VALUE : STRING_VALUE);
+                writeString(gString.value());
+            }
+            default -> throw new IllegalStateException("Cannot cache a literal of type " + value.typeName());
+        }
+    }
+
+    private void writeToken(Token token) throws IOException {
+        if (token == null) {
+            writeVarInt(NULL_TOKEN);
+            return;
+        }
+        // Desugaring copies tokens into many nodes (eg: the operator of every expanded expression), and equal tokens
+        // are interchangeable, so each distinct token is only written once
+        Integer tokenIndex = tokenIndices.get(token);
+        if (tokenIndex != null) {
+            writeVarInt(tokenIndex + 2);
+            return;
+        }
+        tokenIndices.put(token, tokenIndices.size());
+        writeVarInt(NEW_TOKEN);
+        writeString(token.type() != null ? token.type().name() : null);
+        writeString(token.lexeme());
+        switch (token.literal()) {
+            case null -> output.writeByte(NO_TOKEN_LITERAL);
+            case Long longLiteral -> {
+                output.writeByte(LONG_TOKEN_LITERAL);
+                writeSignedVarLong(longLiteral);
+            }
+            case Double doubleLiteral -> {
+                output.writeByte(DOUBLE_TOKEN_LITERAL);
+                output.writeDouble(doubleLiteral);
+            }
+            case String stringLiteral -> {
+                output.writeByte(STRING_TOKEN_LITERAL);
+                writeString(stringLiteral);
+            }
+            default -> throw new IllegalStateException("Cannot cache a token literal of type " + token.literal().getClass());
+        }
+        // Generated tokens have a negative line
+        writeSignedVarLong(token.line());
+        output.writeBoolean(token.isOnNewLine());
+    }
+
+    private void writeResolutionTable(ResolutionTable resolutionTable) throws IOException {
+        writeEntries(resolutionTable.getStackSlots(), stackSlot -> {
+            writeVarInt(stackSlot.depth());
+            writeVarInt(stackSlot.slot());
+        });
+        writeEntries(resolutionTable.getScopeSizes(), this::writeVarInt);
+        writeNodes(resolutionTable.getElidedScopes());
+        writeNodes(resolutionTable.getReusableScopes());
+        writeNodes(resolutionTable.getTailCalls());
+        writeNodes(resolutionTable.getInvocationSites());
+        writeEntries(resolutionTable.getPropertySites(), propertyCache -> writeValue(propertyCache.getFieldName()));
+    }
+
+    /**
+     * Writes the entries of a section of the ResolutionTable in the order of their nodes, so that each node index can
+     * be written as the (small) difference from the index before it
+     */
+    private <V> void writeEntries(Map<Expression, V> entries, ValueWriter<V> valueWriter) throws IOException {
+        List<Map.Entry<Expression, V>> sortedEntries = new ArrayList<>(entries.entrySet());
+        sortedEntries.sort(Comparator.comparingInt(entry -> toNodeIndex(entry.getKey())));
+
+        writeVarInt(sortedEntries.size());
+        int previousNodeIndex = 0;
+        for (Map.Entry<Expression, V> entry : sortedEntries) {
+            int nodeIndex = toNodeIndex(entry.getKey());
+            writeVarInt(nodeIndex - previousNodeIndex);
+            previousNodeIndex = nodeIndex;
+            valueWriter.write(entry.getValue());
+        }
+    }
+
+    private void writeNodes(Set<Expression> nodes) throws IOException {
+        Map<Expression, Boolean> entries = new IdentityHashMap<>();
+        nodes.forEach(node -> entries.put(node, true));
+        writeEntries(entries, ignored -> {});
+    }
+
+    private int toNodeIndex(Expression node) {
+        Integer nodeIndex = nodeIndices.get(node);
+        if (nodeIndex == null) {
+            throw new IllegalStateException("Cannot cache the resolution of a node outside of the program: " + node);
+        }
+        return nodeIndex;
+    }
+
+    /**
+     * Writes a zero for null, the index of a string which has already been written offset by two, or else a one
+     * followed by the string itself. Generated tokens may have a null lexeme.
+     */
+    private void writeString(String string) throws IOException {
+        if (string == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer stringIndex = stringIndices.get(string);
+        if (stringIndex != null) {
+            writeVarInt(stringIndex + 2);
+            return;
+        }
+        stringIndices.put(string, stringIndices.size());
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(1);
+        writeVarInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        writeVarLong(value);
+    }
+
+    /**
+     * Writes a non-negative integer 7 bits at a time, with the high bit of each byte set if more bytes follow
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed integer, zigzag encoded so that small negative numbers are as short as small positive numbers
+     */
+    private void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<V> {
+        void write(V value) throws IOException;
+    }
+}
@@ -0,0 +1,110 @@
+package cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * A persistent cache of CompiledScripts, which lets a script that has already been run skip tokenization, parsing,
+ * desugaring and resolution. Each script is stored in its own file within the cache directory, named by the SHA-256
+ * hash of the format version and the script's source, so an edited script (or a script cached by an incompatible
+ * version of the interpreter) simply misses the cache, and stale files are never read.
+ *
+ * The cache is only an optimization: a file which cannot be read or written is ignored, and the script is compiled
+ * as usual. Files are written to a temporary file which is then moved into place, so concurrent runs of the same
+ * script never observe a partially written file. The cache holds no state of its own, so it is thread-safe.
+ */
+public class ScriptCache {
+    private static final String FILE_EXTENSION = ".gsc";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    // Null if caching is disabled
+    private final Path directory;
+
+    private ScriptCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public static ScriptCache disabled() {
+        return new ScriptCache(null);
+    }
+
+    /**
+     * @param directory the directory to store compiled scripts in, which is created when the first script is stored
+     */
+    public static ScriptCache inDirectory(Path directory) {
+        return new ScriptCache(directory);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * @return the cached compilation of the given source, or empty if it has not been cached or cannot be read
+     */
+    public Optional<CompiledScript> load(String source) {
+        if (!isEnabled()) return Optional.empty();
+
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(getPath(source)))) {
+            return Optional.of(new CompiledScriptReader(input).read());
+        } catch (NoSuchFileException missingFile) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException unreadableFile) {
+            // The file is corrupt or was written by another version, so it is overwritten once the script is compiled
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Caches the compilation of the given source. This must be called before the script is executed, as executing
+     * it populates the caches of its ResolutionTable.
+     */
+    public void store(String source, CompiledScript script) {
+        if (!isEnabled()) return;
+
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(directory);
+            Path file = getPath(source);
+            temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_FILE_EXTENSION);
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                new CompiledScriptWriter(output).write(script);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException uncacheableScript) {
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    private Path getPath(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(CompiledScriptFormat.VERSION).array());
+            digest.update(source.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(digest.digest()) + FILE_EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) { /* the temporary file is left behind, which never affects later runs */ }
+    }
+}
@@ -0,0 +1,28 @@
+package config;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The instances of every {@link ExecutionScoped} class used by one script execution: its tokenizer, parser,
+ * desugarers, resolver, interpreter and error reporter. A context is created for each script (or REPL session), and is
+ * discarded along with all of its state once the execution completes.
+ */
+public final class ExecutionContext {
+    private final Map<Key<?>, Object> instances = new HashMap<>();
+
+    /**
+     * @return this context's instance for the given key, which is created by the given provider on first use
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> T getOrCreate(Key<T> key, Provider<T> unscopedProvider) {
+        // Not computeIfAbsent, as creating an instance recursively creates the instances it depends upon
+        if (!instances.containsKey(key)) {
+            instances.put(key, unscopedProvider.get());
+        }
+        return (T) instances.get(key);
+    }
+}
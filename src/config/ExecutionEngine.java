@@ -0,0 +1,28 @@
+package config;
+
+import interpreter.Interpreter;
+import interpreter.TreeWalkInterpreter;
+import interpreter.nodes.NodeTreeInterpreter;
+import interpreter.vm.VirtualMachine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExecutionEngine {
+    TREE_WALK("treewalk", TreeWalkInterpreter.class),
+    NODE_TREE("nodes", NodeTreeInterpreter.class),
+    VM("vm", VirtualMachine.class);
+
+    private final String cliName;
+    private final Class<? extends Interpreter> interpreterClass;
+
+    public static Optional<ExecutionEngine> fromCliName(String cliName) {
+        return Arrays.stream(values())
+                .filter(engine -> engine.cliName.equals(cliName))
+                .findFirst();
+    }
+}
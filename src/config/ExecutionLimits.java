@@ -0,0 +1,20 @@
+package config;
+
+/**
+ * Bounds on the resources a GryphonScript program may consume while it executes.
+ *
+ * @param maxStackDepth the maximum number of nested lambda invocations, beyond which a RuntimeError is raised
+ */
+public record ExecutionLimits(int maxStackDepth) {
+    public static final int DEFAULT_MAX_STACK_DEPTH = 100_000;
+    public static final String STACK_DEPTH_EXCEEDED_MESSAGE_TEMPLATE = "Stack depth exceeded the limit of %d calls";
+    public static final String JVM_STACK_EXCEEDED_MESSAGE = "Stack depth exceeded the size of the JVM thread stack";
+
+    public static ExecutionLimits createDefault() {
+        return new ExecutionLimits(DEFAULT_MAX_STACK_DEPTH);
+    }
+
+    public String getStackDepthExceededMessage() {
+        return String.format(STACK_DEPTH_EXCEEDED_MESSAGE_TEMPLATE, maxStackDepth);
+    }
+}
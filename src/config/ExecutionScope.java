@@ -0,0 +1,45 @@
+package config;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+
+/**
+ * The Guice scope of {@link ExecutionScoped} classes, which resolves them from the ExecutionContext that the current
+ * thread has entered. Each thread enters its own context, so many scripts can be executed concurrently by a single
+ * injector (eg: on a thread pool in a warm JVM), without sharing any per-execution state.
+ */
+public class ExecutionScope implements Scope {
+    private final ThreadLocal<ExecutionContext> currentContext = new ThreadLocal<>();
+
+    /**
+     * Makes the given context the current thread's context, until {@link #exit()} is called
+     */
+    public void enter(ExecutionContext context) {
+        if (currentContext.get() != null) {
+            throw new IllegalStateException("The current thread has already entered an execution context");
+        }
+        currentContext.set(context);
+    }
+
+    public void exit() {
+        currentContext.remove();
+    }
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscopedProvider) {
+        return () -> {
+            ExecutionContext context = currentContext.get();
+            if (context == null) {
+                throw new OutOfScopeException(String.format("Cannot access %s outside of an execution context", key));
+            }
+            return context.getOrCreate(key, unscopedProvider);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return ExecutionScoped.class.getSimpleName();
+    }
+}
@@ -0,0 +1,18 @@
+package config;
+
+import com.google.inject.ScopeAnnotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class (or provider method) as holding state which belongs to a single script execution, such as the
+ * tokenizer's position in the source, or the interpreter's environments. One instance is created per
+ * {@link ExecutionContext}, so concurrent executions never share one.
+ */
+@ScopeAnnotation
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExecutionScoped {}
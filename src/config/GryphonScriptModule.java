@@ -1,5 +1,6 @@
 package config;
 
+import cache.ScriptCache;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
@@ -8,10 +9,12 @@ import desugarer.argumenthole.ArgumentHoleDesugarer;
 import desugarer.argumenthole.ArgumentHoleLambdaGenerator;
 import desugarer.DesugaringOrchestrator;
 import desugarer.ExpansionDesugarer;
+import desugarer.optimizer.ConstantFoldingOptimizer;
 import interpreter.Interpreter;
-import interpreter.TreeWalkInterpreter;
 import interpreter.standardlibrary.LibraryStructFactory;
+import interpreter.standardlibrary.libraries.AsyncLibrary;
 import interpreter.standardlibrary.libraries.FileLibrary;
+import interpreter.standardlibrary.libraries.FunctionLibrary;
 import interpreter.standardlibrary.libraries.ListLibrary;
 import interpreter.standardlibrary.libraries.RootLibrary;
 import interpreter.standardlibrary.libraries.StringLibrary;
@@ -28,22 +31,53 @@ import java.util.Arrays;
 import java.util.List;
 
 public class GryphonScriptModule extends AbstractModule {
+    private final ExecutionEngine executionEngine;
+    private final ExecutionLimits executionLimits;
+    private final ScriptCache scriptCache;
+    private final ExecutionScope executionScope = new ExecutionScope();
+
+    public GryphonScriptModule() {
+        this(ExecutionEngine.TREE_WALK);
+    }
+
+    public GryphonScriptModule(ExecutionEngine executionEngine) {
+        this(executionEngine, ExecutionLimits.createDefault());
+    }
+
+    public GryphonScriptModule(ExecutionEngine executionEngine, ExecutionLimits executionLimits) {
+        this(executionEngine, executionLimits, ScriptCache.disabled());
+    }
+
+    public GryphonScriptModule(ExecutionEngine executionEngine, ExecutionLimits executionLimits, ScriptCache scriptCache) {
+        this.executionEngine = executionEngine;
+        this.executionLimits = executionLimits;
+        this.scriptCache = scriptCache;
+    }
+
     @Override
     protected void configure() {
+        bindScope(ExecutionScoped.class, executionScope);
+        bind(ExecutionScope.class).toInstance(executionScope);
+
         bind(Tokenizer.class).to(LexicalTokenizer.class);
         bind(Parser.class).to(RecursiveDescentParser.class);
-        bind(Interpreter.class).to(TreeWalkInterpreter.class);
+        bind(Interpreter.class).to(executionEngine.getInterpreterClass());
         bind(Resolver.class).to(SemanticVariableResolver.class);
+        bind(ExecutionLimits.class).toInstance(executionLimits);
+        bind(ScriptCache.class).toInstance(scriptCache);
     }
 
     @Provides
-    @Singleton
+    @ExecutionScoped
     public Desugarer desugaringOrchestratorFactory(
             ExpansionDesugarer expansionDesugarer,
-            ArgumentHoleDesugarer argumentHoleDesugarer) {
+            ArgumentHoleDesugarer argumentHoleDesugarer,
+            ConstantFoldingOptimizer constantFoldingOptimizer) {
         final List<Desugarer> orderedDesugarers = Arrays.asList(
                 expansionDesugarer,
-                argumentHoleDesugarer);
+                argumentHoleDesugarer,
+                // Optimizers must run last, as they only operate on fully desugared expressions
+                constantFoldingOptimizer);
         return new DesugaringOrchestrator(orderedDesugarers);
     }
 
@@ -55,13 +89,17 @@ public class GryphonScriptModule extends AbstractModule {
             FileLibrary fileLibrary,
             ListLibrary listLibrary,
             RootLibrary rootLibrary,
-            StringLibrary stringLibrary) {
+            StringLibrary stringLibrary,
+            AsyncLibrary asyncLibrary,
+            FunctionLibrary functionLibrary) {
         return new LibraryStructFactory(Arrays.asList(
                 structLibrary,
                 typeLibrary,
                 fileLibrary,
                 listLibrary,
                 rootLibrary,
-                stringLibrary));
+                stringLibrary,
+                asyncLibrary,
+                functionLibrary));
     }
 }
@@ -15,5 +15,7 @@ public class StandardLibraryModule extends AbstractModule {
         bind(RootLibrary.class);
         bind(StringLibrary.class);
         bind(MathLibrary.class);
+        bind(AsyncLibrary.class);
+        bind(FunctionLibrary.class);
     }
 }
@@ -1,6 +1,6 @@
 package desugarer;
 
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import interpreter.errors.RuntimeError;
 import lombok.NoArgsConstructor;
 import model.Expression;
@@ -13,10 +13,10 @@ import java.util.List;
 
 import static model.TokenType.IDENTIFIER;
 
-@Singleton
+@ExecutionScoped
 @NoArgsConstructor
 public class ExpansionDesugarer extends BaseDesugarer {
-    private static int counter = 0;
+    private int counter = 0;
     private static final String HIDDEN_DESTRUCTURE_VARIABLE_PREFIX = "hidden-destruct-";
 
     @Override
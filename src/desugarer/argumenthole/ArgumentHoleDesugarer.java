@@ -1,7 +1,7 @@
 package desugarer.argumenthole;
 
 import com.google.inject.Inject;
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import desugarer.Desugarer;
 import lombok.RequiredArgsConstructor;
 import model.Expression;
@@ -9,7 +9,7 @@ import util.DebugPrinter;
 
 import java.util.List;
 
-@Singleton
+@ExecutionScoped
 @RequiredArgsConstructor(onConstructor_ = { @Inject})
 public class ArgumentHoleDesugarer implements Desugarer {
     private final ArgumentHoleLambdaGenerator argumentHoleLambdaGenerator;
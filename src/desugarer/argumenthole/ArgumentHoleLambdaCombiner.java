@@ -1,6 +1,6 @@
 package desugarer.argumenthole;
 
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import desugarer.BaseDesugarer;
 import lombok.NoArgsConstructor;
 import model.BinaryExpressionInitializer;
@@ -12,7 +12,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-@Singleton
+@ExecutionScoped
 @NoArgsConstructor
 public class ArgumentHoleLambdaCombiner extends BaseDesugarer {
 
@@ -1,6 +1,6 @@
 package desugarer.argumenthole;
 
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import desugarer.BaseDesugarer;
 import interpreter.datatypes.GString;
 import lombok.NoArgsConstructor;
@@ -14,7 +14,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-@Singleton
+@ExecutionScoped
 @NoArgsConstructor
 public class ArgumentHoleLambdaGenerator extends BaseDesugarer {
     // TODO: Add generated TokenType as well for improved debugging
@@ -22,9 +22,9 @@ public class ArgumentHoleLambdaGenerator extends BaseDesugarer {
     //       expression, instead of evaluating to (\(a) -> a % 2) == 0 as it currently does
     //       Can do this in a second pass of a desugarer, which looks if an argument is a generated function, and if so
     //       extracts the body out as the operand.
-    //       Need to make sure generated args are unique, so use a global static counter. Also can use a monad to extract
+    //       Need to make sure generated args are unique, so use a per-execution counter. Also can use a monad to extract
     //       args from an expression/lambda when combining
-    private static int counter = 0;
+    private int counter = 0;
     private static final String GENERATED_TOKEN_LEXEME_TEMPLATE = "gen-param-token-%d";
 
     @Override
@@ -0,0 +1,203 @@
+package desugarer.optimizer;
+
+import com.google.inject.Inject;
+import config.ExecutionScoped;
+import desugarer.BaseDesugarer;
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import model.Token;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Simplifies fully desugared expressions before they are resolved and executed:
+ *   → Binary operations and unary operations on literal operands are folded into a single literal
+ *   → If expressions with a literal condition are replaced by the branch which would be taken
+ *   → Local variables bound to a literal, which are never reassigned, are replaced by that literal. Global variables
+ *     are never replaced, as they outlive the program which declares them: each line of a REPL session is optimized
+ *     as a separate program, so a later line may reassign a global which an earlier line's lambdas refer to.
+ *   → Lambda literals which are immediately applied to literal arguments, such as string interpolation templates, are
+ *     folded into their result when their body folds into a literal
+ *
+ * Folding reuses the interpreter's evaluators, so folded results are identical to the results which would have been
+ * computed at runtime. An operation which fails is left in place, so that its error is still reported at runtime.
+ */
+@ExecutionScoped
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
+public class ConstantFoldingOptimizer extends BaseDesugarer {
+    private final UnaryEvaluator unaryEvaluator;
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    private final ReassignmentCollector reassignmentCollector = new ReassignmentCollector();
+
+    // Each scope maps a variable name to its literal value, or to null if the variable may not be propagated
+    private final Deque<Map<String, Expression.Literal>> scopes = new ArrayDeque<>();
+    private Set<String> reassignedNames = Set.of();
+
+    @Override
+    public List<Expression> desugarAll(List<Expression> expressions) {
+        // Nested expression lists are desugared through this method too, but only a program opens the global scope
+        if (!scopes.isEmpty()) return super.desugarAll(expressions);
+
+        reassignedNames = reassignmentCollector.collectReassignedNames(expressions);
+        scopes.push(new HashMap<>());
+        try {
+            return super.desugarAll(expressions);
+        } finally {
+            scopes.clear();
+        }
+    }
+
+    @Override
+    protected Expression desugarDeclaration(Expression.Declaration declaration) {
+        String name = declaration.variable().lexeme();
+        // The variable shadows any outer variable of the same name from its own initializer onwards
+        scopes.peek().put(name, null);
+
+        Expression initializer = desugarExpression(declaration.initializer());
+        if (initializer instanceof Expression.Literal literal && !reassignedNames.contains(name) && !isGlobalScope()) {
+            scopes.peek().put(name, literal);
+        }
+        return new Expression.Declaration(declaration.variable(), initializer);
+    }
+
+    private boolean isGlobalScope() {
+        return scopes.size() == 1;
+    }
+
+    @Override
+    protected Expression desugarVariable(Expression.Variable variable) {
+        for (Map<String, Expression.Literal> scope : scopes) {
+            if (scope.containsKey(variable.name().lexeme())) {
+                Expression.Literal literal = scope.get(variable.name().lexeme());
+                return literal != null ? literal : variable;
+            }
+        }
+        return variable;
+    }
+
+    @Override
+    protected Expression desugarGroup(Expression.Group group) {
+        Expression expression = desugarExpression(group.expression());
+        return expression instanceof Expression.Literal ? expression : new Expression.Group(expression);
+    }
+
+    @Override
+    protected Expression desugarUnary(Expression.Unary unary) {
+        Expression right = desugarExpression(unary.right());
+        if (right instanceof Expression.Literal rightLiteral) {
+            try {
+                return new Expression.Literal(unaryEvaluator.evaluateOperation(unary.operator(), rightLiteral.value()));
+            } catch (RuntimeError | ArithmeticException ignored) {
+                // Leave the operation to fail at runtime
+            }
+        }
+        return new Expression.Unary(unary.operator(), right);
+    }
+
+    @Override
+    protected Expression desugarBinary(Expression.Binary binary) {
+        if (!(binary instanceof Expression.Binary.Operation operation)) {
+            Expression.Binary desugaredBinary = (Expression.Binary) super.desugarBinary(binary);
+            if (desugaredBinary instanceof Expression.Binary.Infix infix
+                    && infix.left() instanceof Expression.Literal
+                    && infix.right() instanceof Expression.Lambda lambda) {
+                Expression result = applyLiteralArguments(lambda, List.of(infix.left()));
+                if (result != null) return result;
+            }
+            return desugaredBinary;
+        }
+
+        Expression left = desugarExpression(operation.left());
+        Expression right = desugarExpression(operation.right());
+        if (left instanceof Expression.Literal leftLiteral && right instanceof Expression.Literal rightLiteral) {
+            try {
+                GObject result = binaryOperationEvaluator.evaluateOperation(
+                        operation.operator(),
+                        leftLiteral.value(),
+                        rightLiteral.value());
+                return new Expression.Literal(result);
+            } catch (RuntimeError | ArithmeticException ignored) {
+                // Leave the operation to fail at runtime
+            }
+        }
+        return new Expression.Binary.Operation(left, right, operation.operator());
+    }
+
+    @Override
+    protected Expression desugarIf(Expression.If ifExpression) {
+        Expression condition = desugarExpression(ifExpression.condition());
+        if (condition instanceof Expression.Literal literal) {
+            Expression takenBranch = InterpreterUtils.isTruthy(literal.value())
+                    ? ifExpression.thenBranch()
+                    : ifExpression.elseBranch();
+            return takenBranch != null ? desugarExpression(takenBranch) : Expression.NIL;
+        }
+        return new Expression.If(
+                condition,
+                desugarExpression(ifExpression.thenBranch()),
+                desugarExpression(ifExpression.elseBranch()));
+    }
+
+    @Override
+    protected Expression desugarBlock(Expression.Block block) {
+        scopes.push(new HashMap<>());
+        Expression result = super.desugarBlock(block);
+        scopes.pop();
+        return result;
+    }
+
+    @Override
+    protected Expression desugarLambda(Expression.Lambda lambda) {
+        Map<String, Expression.Literal> parameterScope = new HashMap<>();
+        lambda.parameters().forEach(parameter -> parameterScope.put(parameter.lexeme(), null));
+
+        scopes.push(parameterScope);
+        Expression result = super.desugarLambda(lambda);
+        scopes.pop();
+        return result;
+    }
+
+    @Override
+    protected Expression desugarInvocation(Expression.Invocation invocation) {
+        Expression.Invocation desugaredInvocation = (Expression.Invocation) super.desugarInvocation(invocation);
+        if (desugaredInvocation.callee() instanceof Expression.Lambda lambda) {
+            Expression result = applyLiteralArguments(lambda, desugaredInvocation.arguments());
+            if (result != null) return result;
+        }
+        return desugaredInvocation;
+    }
+
+    /**
+     * Folds the application of a lambda literal to literal arguments, by binding each parameter to its argument and
+     * re-optimizing the body.
+     *
+     * @return the literal result of the application, or null if the body does not fold into a literal
+     */
+    private Expression.Literal applyLiteralArguments(Expression.Lambda lambda, List<Expression> arguments) {
+        if (lambda.parameters().size() != arguments.size()) return null;
+
+        Map<String, Expression.Literal> parameterScope = new HashMap<>();
+        for (int i = 0; i < arguments.size(); i ++) {
+            Token parameter = lambda.parameters().get(i);
+            if (!(arguments.get(i) instanceof Expression.Literal argument) || reassignedNames.contains(parameter.lexeme())) {
+                return null;
+            }
+            parameterScope.put(parameter.lexeme(), argument);
+        }
+
+        scopes.push(parameterScope);
+        Expression body = desugarExpression(lambda.body());
+        scopes.pop();
+        return body instanceof Expression.Literal literal ? literal : null;
+    }
+}
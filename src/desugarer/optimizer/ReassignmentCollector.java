@@ -0,0 +1,58 @@
+package desugarer.optimizer;
+
+import desugarer.BaseDesugarer;
+import model.Expression;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the names of every variable which may hold more than one value over the lifetime of a program: variables
+ * which are the target of an assignment, and variables which are declared more than once in the same scope (which is
+ * only permitted in the global scope, where a lambda may observe either value). Such variables must never be replaced
+ * with their initializer.
+ */
+class ReassignmentCollector extends BaseDesugarer {
+    private final Set<String> reassignedNames = new HashSet<>();
+    private final Deque<Set<String>> scopes = new ArrayDeque<>();
+
+    public Set<String> collectReassignedNames(List<Expression> expressions) {
+        reassignedNames.clear();
+        scopes.clear();
+        scopes.push(new HashSet<>());
+        desugarAll(expressions);
+        return Set.copyOf(reassignedNames);
+    }
+
+    @Override
+    protected Expression desugarAssignment(Expression.Assignment assignment) {
+        reassignedNames.add(assignment.variable().lexeme());
+        return super.desugarAssignment(assignment);
+    }
+
+    @Override
+    protected Expression desugarDeclaration(Expression.Declaration declaration) {
+        String name = declaration.variable().lexeme();
+        if (!scopes.peek().add(name)) reassignedNames.add(name);
+        return super.desugarDeclaration(declaration);
+    }
+
+    @Override
+    protected Expression desugarBlock(Expression.Block block) {
+        scopes.push(new HashSet<>());
+        Expression result = super.desugarBlock(block);
+        scopes.pop();
+        return result;
+    }
+
+    @Override
+    protected Expression desugarLambda(Expression.Lambda lambda) {
+        scopes.push(new HashSet<>());
+        Expression result = super.desugarLambda(lambda);
+        scopes.pop();
+        return result;
+    }
+}
@@ -1,17 +1,23 @@
 package error;
 
-import com.google.inject.Singleton;
+import com.google.inject.Inject;
+import config.ExecutionScoped;
 import interpreter.errors.RuntimeError;
+import interpreter.runtime.ScriptOutput;
 import model.Token;
 import model.TokenType;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 @Getter
-@Singleton
+@ExecutionScoped
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
 public class ErrorReporter {
     private static final String ERROR_TEMPLATE = "[line %d] Error at %s: %s\n";
     private static final String RUNTIME_ERROR_TEMPLATE = "[line %d] %s\n";
 
+    // Flushed before every error, so that errors appear after the output which preceded them
+    private final ScriptOutput scriptOutput;
     private boolean isInError = false;
     private boolean isInRuntimeError = false;
 
@@ -34,6 +40,7 @@ public class ErrorReporter {
 
     public void reportRuntimeError(RuntimeError error) {
         isInRuntimeError = true;
+        scriptOutput.flush();
         System.err.printf(RUNTIME_ERROR_TEMPLATE, error.getToken().line(), error.getMessage());
     }
 
@@ -43,6 +50,7 @@ public class ErrorReporter {
         }
 
         isInError = true;
+        scriptOutput.flush();
         System.err.printf(ERROR_TEMPLATE, lineNum, where, message);
     }
 }
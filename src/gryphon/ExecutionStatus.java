@@ -0,0 +1,18 @@
+package gryphon;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The outcome of executing a script, along with the exit code which the CLI reports it with
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExecutionStatus {
+    SUCCESS(0),
+    // A tokenization, syntax or resolution error prevented the script from being executed
+    ERROR(65),
+    RUNTIME_ERROR(70);
+
+    private final int exitCode;
+}
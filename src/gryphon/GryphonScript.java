@@ -1,5 +1,7 @@
 package gryphon;
 
+import cache.CompiledScript;
+import cache.ScriptCache;
 import com.google.inject.Inject;
 import desugarer.Desugarer;
 import error.ErrorReporter;
@@ -7,6 +9,7 @@ import interpreter.Interpreter;
 import model.Expression;
 import model.Token;
 import parser.Parser;
+import resolver.ResolutionTable;
 import resolver.Resolver;
 import tokenizer.Tokenizer;
 import util.DebugPrinter;
@@ -18,6 +21,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 
 public class GryphonScript {
     public static final boolean DEBUG = false;
@@ -29,24 +33,41 @@ public class GryphonScript {
     private final Desugarer desugarer;
     private final Resolver resolver;
     private final Interpreter interpreter;
+    private final ScriptCache scriptCache;
 
     @Inject
-    public GryphonScript(ErrorReporter errorReporter, Tokenizer tokenizer, Parser parser, Desugarer desugarer, Resolver resolver, Interpreter interpreter) {
+    public GryphonScript(ErrorReporter errorReporter, Tokenizer tokenizer, Parser parser, Desugarer desugarer, Resolver resolver, Interpreter interpreter, ScriptCache scriptCache) {
         this.errorReporter = errorReporter;
         this.tokenizer = tokenizer;
         this.parser = parser;
         this.desugarer = desugarer;
         this.resolver = resolver;
         this.interpreter = interpreter;
+        this.scriptCache = scriptCache;
     }
 
     public void executeFile(String filePath) throws IOException {
         byte[] bytes = Files.readAllBytes(Paths.get(filePath));
-        run(new String(bytes, Charset.defaultCharset()));
+        ExecutionStatus status = execute(new String(bytes, Charset.defaultCharset()));
 
         // Indicate an error occurred in the exit code
-        if (errorReporter.isInError()) System.exit(65);
-        if (errorReporter.isInRuntimeError()) System.exit(70);
+        if (status != ExecutionStatus.SUCCESS) System.exit(status.getExitCode());
+    }
+
+    /**
+     * Executes a whole program. Its compilation is loaded from the ScriptCache if it has been run before, and is
+     * otherwise stored in it, so only the first run of an unchanged script pays for the stages before execution.
+     */
+    public ExecutionStatus execute(String source) {
+        Optional<CompiledScript> compiledScript = scriptCache.load(source);
+        if (compiledScript.isEmpty()) {
+            compiledScript = compile(source);
+            compiledScript.ifPresent(script -> scriptCache.store(source, script));
+        }
+        compiledScript.ifPresent(this::run);
+        if (errorReporter.isInError()) return ExecutionStatus.ERROR;
+        if (errorReporter.isInRuntimeError()) return ExecutionStatus.RUNTIME_ERROR;
+        return ExecutionStatus.SUCCESS;
     }
 
     public void executeREPL() throws IOException {
@@ -60,37 +81,48 @@ public class GryphonScript {
             if (line == null) {
                 break;
             } else {
-                run(line);
+                // REPL lines are never cached, as they are rarely run twice
+                compile(line).ifPresent(this::run);
                 errorReporter.clearErrors();
             }
         }
     }
 
-    private void run(String source) {
+    /**
+     * @return the program compiled from the given source, or empty if a tokenization, syntax or resolution error
+     * was reported
+     */
+    private Optional<CompiledScript> compile(String source) {
         List<Token> tokens = tokenizer.tokenize(source);
 
         // Stop if there was a tokenization error.
-        if (errorReporter.isInError()) return;
+        if (errorReporter.isInError()) return Optional.empty();
         if (DEBUG) System.out.println(tokens);
 
         List<Expression> expressions = parser.parse(tokens);
 
         // Stop if there was a syntax error.
-        if (errorReporter.isInError()) return;
+        if (errorReporter.isInError()) return Optional.empty();
         if (DEBUG) prettyPrint("Parsed", expressions);
 
         expressions = desugarer.desugarAll(expressions);
 
         // Stop if there was a syntax error.
-        if (errorReporter.isInError()) return;
+        if (errorReporter.isInError()) return Optional.empty();
         if (DEBUG) prettyPrint("Desugared", expressions);
 
-        resolver.resolveProgram(interpreter, expressions);
+        ResolutionTable resolutionTable = resolver.resolveProgram(expressions);
 
         // Stop if there was a resolution error.
-        if (errorReporter.isInError()) return;
+        if (errorReporter.isInError()) return Optional.empty();
+
+        return Optional.of(new CompiledScript(expressions, resolutionTable));
+    }
+
+    private void run(CompiledScript compiledScript) {
+        interpreter.loadResolutionTable(compiledScript.resolutionTable());
 
-        interpreter.executeProgram(expressions);
+        interpreter.executeProgram(compiledScript.expressions());
     }
 
     public static void prettyPrint(String name, List<Expression> list) {
@@ -0,0 +1,64 @@
+package gryphon;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import config.ExecutionContext;
+import config.ExecutionScope;
+import interpreter.runtime.ScriptOutput;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+/**
+ * The thread-safe entry point for executing scripts. Each execution runs on the calling thread within a new
+ * ExecutionContext, which holds its own tokenizer, parser, desugarers, resolver, interpreter and error reporter, so a
+ * single injector in a warm JVM can execute any number of scripts concurrently (eg: from a thread pool).
+ */
+@Singleton
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
+public class GryphonScriptExecutor {
+    private final ExecutionScope executionScope;
+    private final Provider<GryphonScript> gryphonScriptProvider;
+    private final Provider<ScriptOutput> scriptOutputProvider;
+
+    public ExecutionStatus execute(String source) {
+        return executeInNewContext(script -> script.execute(source));
+    }
+
+    public void executeFile(String filePath) throws IOException {
+        executeInNewContext(script -> {
+            script.executeFile(filePath);
+            return null;
+        });
+    }
+
+    /**
+     * Executes a REPL session, whose lines all share a single context, so that variables outlive the line declaring them
+     */
+    public void executeREPL() throws IOException {
+        executeInNewContext(script -> {
+            script.executeREPL();
+            return null;
+        });
+    }
+
+    private <T, E extends Exception> T executeInNewContext(ScriptAction<T, E> action) throws E {
+        executionScope.enter(new ExecutionContext());
+        try {
+            return action.apply(gryphonScriptProvider.get());
+        } finally {
+            try {
+                // Files are only closed once the whole context ends, as a REPL session may use a file on later lines
+                scriptOutputProvider.get().closeAll();
+            } finally {
+                executionScope.exit();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScriptAction<T, E extends Exception> {
+        T apply(GryphonScript script) throws E;
+    }
+}
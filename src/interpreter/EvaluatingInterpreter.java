@@ -0,0 +1,40 @@
+package interpreter;
+
+import interpreter.datatypes.GObject;
+import interpreter.lambda.InlineCache;
+import interpreter.lambda.Invokable;
+import interpreter.lambda.LambdaFunction;
+import interpreter.lambda.TailCall;
+import interpreter.nodes.ExecutableNode;
+import model.Expression;
+import model.Token;
+
+import java.util.List;
+
+/**
+ * An Interpreter which evaluates expression trees directly with the evaluators, rather than compiling them first. The
+ * evaluators, LambdaFunctions and the nodes of the lambdas it tiers up depend on the hooks below, which let it cache
+ * invocation targets per call site, defer calls in tail position to the trampoline of the enclosing LambdaFunction, and
+ * execute the compiled bodies of hot lambdas.
+ */
+public interface EvaluatingInterpreter extends Interpreter {
+    /**
+     * @return the compiled body of the given lambda, or null if it should still be evaluated
+     */
+    ExecutableNode lookUpCompiledBody(LambdaFunction function);
+    GObject invokeLambda(Invokable invokable, List<GObject> arguments, Token token, InlineCache inlineCache);
+    InlineCache lookUpInlineCache(Expression.Invocation invocation);
+    boolean isTailCall(Expression invocation);
+
+    /**
+     * Defers a call in tail position until the enclosing lambda body returns, if the invokable is a LambdaFunction
+     *
+     * @return a placeholder value if the call was deferred, which must be returned from the lambda body unchanged
+     */
+    GObject invokeTailCall(Invokable invokable, List<GObject> arguments, Token token);
+
+    /**
+     * @return the call deferred by the lambda body which has just returned, or null if it made none
+     */
+    TailCall takeTailCall();
+}
@@ -3,8 +3,11 @@ package interpreter;
 import interpreter.datatypes.GObject;
 import interpreter.lambda.Invokable;
 import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.ScriptOutput;
 import model.Expression;
 import model.Token;
+import resolver.ResolutionTable;
 
 import java.util.List;
 import java.util.function.Supplier;
@@ -12,11 +15,23 @@ import java.util.function.Supplier;
 public interface Interpreter {
     GObject executeProgram(List<Expression> expressions);
     GObject evaluateExpression(Expression expression);
-    GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator);
+    GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator, int scopeSize);
     GObject evaluateExpressionInGivenScope(Supplier<GObject> expressionEvaluator, Environment scope);
     Environment getCurrentScope();
-    void resolveStackVariableAtDepth(Expression expression, int depth);
+    void loadResolutionTable(ResolutionTable resolutionTable);
+    int lookUpScopeSize(Expression scope);
+    boolean isScopeElided(Expression.Block block);
+    boolean isScopeReusable(Expression.Block block);
+    void defineStackVariable(Expression.Declaration declaration, GObject value);
     void assignStackVariable(Expression.Assignment expression, GObject value);
     GObject lookUpStackVariable(Expression.Variable variable);
     GObject invokeLambda(Invokable invokable, List<GObject> arguments, Token token);
+    PropertyCache lookUpPropertyCache(Expression site);
+    ScriptOutput getScriptOutput();
+
+    /**
+     * @return a new Interpreter which shares this Interpreter's globals and resolved program, but has its own call
+     * state, so that it can invoke the program's lambdas on another thread concurrently with this one
+     */
+    Interpreter fork();
 }
@@ -1,33 +1,47 @@
 package interpreter;
 
 import com.google.inject.Inject;
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
+import config.ExecutionLimits;
 import error.ErrorReporter;
 import interpreter.datatypes.GObject;
 import interpreter.errors.RuntimeError;
 import interpreter.evaluators.*;
 import interpreter.lambda.InvocationExecutionError;
+import interpreter.lambda.InlineCache;
 import interpreter.lambda.Invokable;
+import interpreter.lambda.LambdaFunction;
+import interpreter.lambda.TailCall;
+import interpreter.nodes.ExecutableNode;
+import interpreter.tiering.TieredCompiler;
 import interpreter.standardlibrary.LibraryStructFactory;
 import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.ScriptOutput;
+import interpreter.runtime.StackSlot;
 import lombok.RequiredArgsConstructor;
 import model.Expression;
 import model.SugarExpression;
 import model.Token;
+import resolver.ResolutionTable;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
-@Singleton
+@ExecutionScoped
 @RequiredArgsConstructor(onConstructor_ = { @Inject})
-public class TreeWalkInterpreter implements Interpreter {
+public class TreeWalkInterpreter implements EvaluatingInterpreter {
     private final ErrorReporter errorReporter;
+    private final ScriptOutput scriptOutput;
     private final LibraryStructFactory libraryStructFactory;
-    private final Map<Expression, Integer> stackDepthMap = new HashMap<>();
-    private final Environment globalEnvironment = Environment.createGlobalEnvironment();
+    private final ExecutionLimits executionLimits;
+    private final TieredCompiler tieredCompiler;
+    // Shared with every fork of this interpreter
+    private ResolutionTable resolutionTable = new ResolutionTable();
+    private Environment globalEnvironment = Environment.createGlobalEnvironment();
     private Environment currentEnvironment = globalEnvironment;
+    private TailCall pendingTailCall;
+    private int stackDepth = 0;
 
     private final LiteralEvaluator literalEvaluator;
     private final ListLiteralEvaluator listLiteralEvaluator;
@@ -63,6 +77,8 @@ public class TreeWalkInterpreter implements Interpreter {
             }
         } catch (RuntimeError error) {
             errorReporter.reportRuntimeError(error);
+        } finally {
+            scriptOutput.flush();
         }
         return finalExpressionResult;
     }
@@ -113,14 +129,47 @@ public class TreeWalkInterpreter implements Interpreter {
     }
 
     @Override
-    public void resolveStackVariableAtDepth(Expression expression, int depth) {
-        stackDepthMap.put(expression, depth);
+    public ExecutableNode lookUpCompiledBody(LambdaFunction function) {
+        return tieredCompiler.profileInvocation(function, this, resolutionTable, globalEnvironment);
+    }
+
+    @Override
+    public void loadResolutionTable(ResolutionTable resolutionTable) {
+        // Merge rather than replace, as lambdas from previously executed programs (eg: earlier REPL lines) may still be
+        // invoked, and rely on their own resolutions
+        this.resolutionTable.merge(resolutionTable);
+    }
+
+    @Override
+    public int lookUpScopeSize(Expression scope) {
+        return resolutionTable.lookUpScopeSize(scope);
+    }
+
+    @Override
+    public boolean isScopeElided(Expression.Block block) {
+        return resolutionTable.isScopeElided(block);
+    }
+
+    @Override
+    public boolean isScopeReusable(Expression.Block block) {
+        return resolutionTable.isScopeReusable(block);
+    }
+
+    @Override
+    public void defineStackVariable(Expression.Declaration declaration, GObject value) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(declaration);
+        if (stackSlot != null) {
+            currentEnvironment.defineAt(stackSlot.slot(), value);
+        } else {
+            globalEnvironment.define(declaration.variable().lexeme(), value);
+        }
     }
 
     @Override
     public void assignStackVariable(Expression.Assignment expression, GObject value) {
-        if (stackDepthMap.containsKey(expression)) {
-            currentEnvironment.assignAtAncestor(stackDepthMap.get(expression), expression.variable(), value);
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(expression);
+        if (stackSlot != null) {
+            currentEnvironment.assignAtAncestor(stackSlot.depth(), stackSlot.slot(), value);
         } else {
             globalEnvironment.assign(expression.variable(), value);
         }
@@ -128,8 +177,9 @@ public class TreeWalkInterpreter implements Interpreter {
 
     @Override
     public GObject lookUpStackVariable(Expression.Variable variable) {
-        if (stackDepthMap.containsKey(variable)) {
-            return currentEnvironment.getAt(stackDepthMap.get(variable), variable.name().lexeme());
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(variable);
+        if (stackSlot != null) {
+            return currentEnvironment.getAt(stackSlot.depth(), stackSlot.slot());
         } else {
             return globalEnvironment.get(variable.name());
         }
@@ -141,8 +191,8 @@ public class TreeWalkInterpreter implements Interpreter {
     }
 
     @Override
-    public GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator) {
-        return evaluateExpressionInGivenScope(expressionEvaluator, new Environment(currentEnvironment));
+    public GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator, int scopeSize) {
+        return evaluateExpressionInGivenScope(expressionEvaluator, new Environment(currentEnvironment, scopeSize));
     }
 
     @Override
@@ -161,10 +211,122 @@ public class TreeWalkInterpreter implements Interpreter {
         if (arguments.size() != invokable.arity()) {
             throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", invokable.arity(), arguments.size()));
         }
+        return invokeCheckedLambda(invokable, arguments, token, lookUpFrameSize(invokable));
+    }
+
+    @Override
+    public GObject invokeLambda(Invokable invokable, List<GObject> arguments, Token token, InlineCache inlineCache) {
+        InlineCache.Entry entry = inlineCache.lookUp(invokable);
+        if (entry == null) {
+            if (arguments.size() != invokable.arity() || inlineCache.isMegamorphic()) {
+                return invokeLambda(invokable, arguments, token);
+            }
+            entry = inlineCache.add(invokable, lookUpFrameSize(invokable));
+            if (entry == null) return invokeLambda(invokable, arguments, token);
+        }
+
+        // The cached target has already passed the arity check for this site
+        return invokeCheckedLambda(invokable, arguments, token, entry.frameSize());
+    }
+
+    @Override
+    public ScriptOutput getScriptOutput() {
+        return scriptOutput;
+    }
+
+    @Override
+    public Interpreter fork() {
+        // Compiled bodies are bound to the interpreter which compiled them, so each fork tiers up independently
+        TreeWalkInterpreter fork = new TreeWalkInterpreter(
+                errorReporter,
+                scriptOutput,
+                libraryStructFactory,
+                executionLimits,
+                new TieredCompiler(unaryExecutor, binaryOperationEvaluator),
+                literalEvaluator,
+                listLiteralEvaluator,
+                structFieldDeclarationEvaluator,
+                structLiteralEvaluator,
+                variableEvaluator,
+                declarationEvaluator,
+                assignmentEvaluator,
+                indexAssignmentEvaluator,
+                unaryExecutor,
+                groupEvaluator,
+                binaryOperationEvaluator,
+                logicalEvaluator,
+                infixEvaluator,
+                blockEvaluator,
+                ifEvaluator,
+                whileEvaluator,
+                lambdaEvaluator,
+                invocationEvaluator,
+                indexEvaluator);
+        fork.resolutionTable = resolutionTable;
+        fork.globalEnvironment = globalEnvironment;
+        fork.currentEnvironment = globalEnvironment;
+        return fork;
+    }
+
+    @Override
+    public InlineCache lookUpInlineCache(Expression.Invocation invocation) {
+        return resolutionTable.lookUpInlineCache(invocation);
+    }
+
+    @Override
+    public PropertyCache lookUpPropertyCache(Expression site) {
+        return resolutionTable.lookUpPropertyCache(site);
+    }
+
+    private int lookUpFrameSize(Invokable invokable) {
+        return invokable instanceof LambdaFunction function ? lookUpScopeSize(function.getLambda()) : 0;
+    }
+
+    private GObject invokeCheckedLambda(Invokable invokable, List<GObject> arguments, Token token, int frameSize) {
+        if (stackDepth == executionLimits.maxStackDepth()) {
+            throw new RuntimeError(token, executionLimits.getStackDepthExceededMessage());
+        }
+
+        stackDepth++;
         try {
-            return invokable.call(this, arguments);
+            return invokable instanceof LambdaFunction function
+                    ? function.call(this, arguments, frameSize)
+                    : invokable.call(this, arguments);
         } catch (InvocationExecutionError error) {
             throw new RuntimeError(token, error.getMessage());
+        } catch (StackOverflowError error) {
+            // The JVM stack was exhausted before the configured limit was reached
+            throw new RuntimeError(token, ExecutionLimits.JVM_STACK_EXCEEDED_MESSAGE);
+        } finally {
+            stackDepth--;
         }
     }
+
+    @Override
+    public boolean isTailCall(Expression invocation) {
+        return resolutionTable.isTailCall(invocation);
+    }
+
+    @Override
+    public GObject invokeTailCall(Invokable invokable, List<GObject> arguments, Token token) {
+        // Only lambdas defined in GryphonScript can reuse the caller's frame, native lambdas are invoked directly
+        if (!(invokable instanceof LambdaFunction function)) {
+            return invokeLambda(invokable, arguments, token);
+        }
+        if (arguments.size() != function.arity()) {
+            throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", function.arity(), arguments.size()));
+        }
+
+        // Defer the invocation to the trampoline of the enclosing LambdaFunction. The tail call's result is the result
+        // of the enclosing lambda, so nothing will inspect the placeholder value returned here
+        pendingTailCall = new TailCall(function, arguments);
+        return null;
+    }
+
+    @Override
+    public TailCall takeTailCall() {
+        TailCall tailCall = pendingTailCall;
+        pendingTailCall = null;
+        return tailCall;
+    }
 }
@@ -1,10 +1,44 @@
 package interpreter.datatypes;
 
-public record GBoolean(Boolean value) implements GObject {
+/**
+ * A boolean, represented by exactly two canonical instances which are obtained through {@link #of(boolean)}.
+ */
+public final class GBoolean implements GObject {
     public static final String TYPE_NAME = "boolean";
+    public static final GBoolean TRUE = new GBoolean(true);
+    public static final GBoolean FALSE = new GBoolean(false);
+
+    private final boolean value;
+
+    private GBoolean(boolean value) {
+        this.value = value;
+    }
+
+    public static GBoolean of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public boolean booleanValue() {
+        return value;
+    }
+
+    @Override
+    public Boolean value() {
+        return value;
+    }
 
     @Override
     public String typeName() {
         return TYPE_NAME;
     }
+
+    @Override
+    public String stringify() {
+        return Boolean.toString(value);
+    }
+
+    @Override
+    public String toString() {
+        return "GBoolean[value=" + value + "]";
+    }
 }
@@ -1,45 +1,87 @@
 package interpreter.datatypes;
 
-public record GDouble(Double value) implements GNumeric {
+/**
+ * A 64-bit floating point number, stored unboxed. Instances are immutable and obtained through {@link #of(double)}.
+ */
+public final class GDouble implements GNumeric {
     public static final String TYPE_NAME = "double";
 
+    private final double value;
+
+    private GDouble(double value) {
+        this.value = value;
+    }
+
+    public static GDouble of(double value) {
+        return new GDouble(value);
+    }
+
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public Double value() {
+        return value;
+    }
+
     @Override
     public String typeName() {
         return TYPE_NAME;
     }
 
     @Override
-    public Double toDouble() {
+    public String stringify() {
+        return Double.toString(value);
+    }
+
+    @Override
+    public double toDouble() {
         return value;
     }
 
     @Override
     public GNumeric add(GNumeric other) {
-        return new GDouble(value() + other.toDouble());
+        return of(value + other.toDouble());
     }
 
     @Override
     public GNumeric subtract(GNumeric other) {
-        return new GDouble(value() - other.toDouble());
+        return of(value - other.toDouble());
     }
 
     @Override
     public GNumeric multiply(GNumeric other) {
-        return new GDouble(value() * other.toDouble());
+        return of(value * other.toDouble());
     }
 
     @Override
     public GNumeric divide(GNumeric other) {
-        return new GDouble(value() / other.toDouble());
+        return of(value / other.toDouble());
     }
 
     @Override
     public GNumeric modulo(GNumeric other) {
-        return new GDouble(value() / other.toDouble());
+        return of(value / other.toDouble());
     }
 
     @Override
     public GNumeric power(GNumeric other) {
-        return new GDouble(Math.pow(value(), other.toDouble()));
+        return of(Math.pow(value, other.toDouble()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GDouble gDouble && Double.compare(value, gDouble.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "GDouble[value=" + value + "]";
     }
 }
@@ -0,0 +1,20 @@
+package interpreter.datatypes;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The eventual result of a task started by StdLib.Async.spawn
+ */
+public record GFuture(CompletableFuture<GObject> value) implements GObject {
+    public static final String TYPE_NAME = "future";
+
+    @Override
+    public String typeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public String stringify() {
+        return "<future>";
+    }
+}
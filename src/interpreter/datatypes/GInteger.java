@@ -1,63 +1,126 @@
 package interpreter.datatypes;
 
-public record GInteger(Integer value) implements GNumeric {
+/**
+ * A 64-bit integer. Instances are immutable and obtained through {@link #of(long)}, which returns canonical instances for
+ * common small values so that counting loops and list indexing do not allocate.
+ */
+public final class GInteger implements GNumeric {
     public static final String TYPE_NAME = "integer";
 
+    private static final long CACHE_LOW = -128;
+    private static final long CACHE_HIGH = 1023;
+    private static final GInteger[] CACHE = new GInteger[(int) (CACHE_HIGH - CACHE_LOW + 1)];
+    static {
+        for (int i = 0; i < CACHE.length; i ++) {
+            CACHE[i] = new GInteger(CACHE_LOW + i);
+        }
+    }
+
+    private final long value;
+
+    private GInteger(long value) {
+        this.value = value;
+    }
+
+    public static GInteger of(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) (value - CACHE_LOW)];
+        }
+        return new GInteger(value);
+    }
+
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * @return this integer as an int, saturated to the int range so that oversized indices remain out of bounds
+     * rather than wrapping around into valid ones
+     */
+    public int intValue() {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    @Override
+    public Long value() {
+        return value;
+    }
+
     @Override
     public String typeName() {
         return TYPE_NAME;
     }
 
     @Override
-    public Double toDouble() {
-        return (double) value();
+    public String stringify() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public double toDouble() {
+        return value;
     }
 
     @Override
     public GNumeric add(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger(value() + gInteger.value());
-            case GDouble gDouble -> new GDouble(toDouble() + gDouble.value());
+            case GInteger gInteger -> of(value + gInteger.value);
+            case GDouble gDouble -> GDouble.of(value + gDouble.doubleValue());
         };
     }
 
     @Override
     public GNumeric subtract(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger(value() - gInteger.value());
-            case GDouble gDouble -> new GDouble(toDouble() - gDouble.value());
+            case GInteger gInteger -> of(value - gInteger.value);
+            case GDouble gDouble -> GDouble.of(value - gDouble.doubleValue());
         };
     }
 
     @Override
     public GNumeric multiply(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger(value() * gInteger.value());
-            case GDouble gDouble -> new GDouble(toDouble() * gDouble.value());
+            case GInteger gInteger -> of(value * gInteger.value);
+            case GDouble gDouble -> GDouble.of(value * gDouble.doubleValue());
         };
     }
 
     @Override
     public GNumeric divide(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger(value() / gInteger.value());
-            case GDouble gDouble -> new GDouble(toDouble() / gDouble.value());
+            case GInteger gInteger -> of(value / gInteger.value);
+            case GDouble gDouble -> GDouble.of(value / gDouble.doubleValue());
         };
     }
 
     @Override
     public GNumeric modulo(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger(value() % gInteger.value());
-            case GDouble gDouble -> new GDouble(toDouble() % gDouble.value());
+            case GInteger gInteger -> of(value % gInteger.value);
+            case GDouble gDouble -> GDouble.of(value % gDouble.doubleValue());
         };
     }
 
     @Override
     public GNumeric power(GNumeric other) {
         return switch (other) {
-            case GInteger gInteger -> new GInteger((int) Math.pow(value(), gInteger.value()));
-            case GDouble gDouble -> new GDouble(Math.pow(toDouble(), gDouble.value()));
+            case GInteger gInteger -> of((long) Math.pow(value, gInteger.value));
+            case GDouble gDouble -> GDouble.of(Math.pow(value, gDouble.doubleValue()));
         };
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GInteger gInteger && value == gInteger.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "GInteger[value=" + value + "]";
+    }
 }
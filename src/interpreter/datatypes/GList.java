@@ -7,8 +7,106 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public record GList(List<GObject> value) implements GIndexable {
+/**
+ * A mutable list, whose elements are stored in one of two modes:
+ *   → Array mode: the elements are stored in a backing List. Lists built from list literals and library functions
+ *     start in this mode, which gives the cheapest indexing and in-place appends.
+ *   → Persistent mode: the elements are stored in a PersistentVector. A list switches to this mode when a large list
+ *     is concatenated or sliced, so that these operations share structure with their operands rather than copying
+ *     them, and the result is in this mode too. Mutations replace the vector with an updated copy, which leaves every
+ *     list sharing its structure untouched.
+ *
+ * The mode of a list is never observable by scripts.
+ *
+ * Separately, a list may be lazy (see StdLib.List.lazy). The map, filter, take, zip and accumulate functions return a
+ * lazy list when given one, whose elements are described by a LazySequence fused from every stage of the pipeline, and
+ * are only computed when the list is first consumed (eg: indexed, measured or printed). The computed elements are then
+ * stored in array mode. A lazy list snapshots the elements of its source list, so later mutations of the source list
+ * are not observed by it.
+ *
+ * Reading a list may change how it is stored (eg: computing a lazy list, or switching to persistent mode), and a list
+ * may be read by several threads at once (eg: when captured by the lambda of StdLib.List.parMap). These switches are
+ * therefore made while holding the list's lock, and each writes the new representation before clearing the old one,
+ * so that a concurrent reader always observes one of them. Concurrent mutations of a list are not supported.
+ */
+public final class GList implements GIndexable {
     public static final String TYPE_NAME = "list";
+    // Lists up to this size are concatenated and sliced by copying, which is cheaper than building a vector
+    private static final int PERSISTENT_THRESHOLD = PersistentVector.MAX_LEAF_SIZE;
+
+    // Null once the list is in persistent mode
+    private volatile List<GObject> elements;
+    // Null while the list is in array mode
+    private volatile PersistentVector vector;
+    // Set once the backing List has been captured by a lazy sequence, so that it is copied before being mutated
+    private volatile boolean elementsShared;
+
+    private boolean lazy;
+    // Null unless the list is lazy and its elements have not been computed yet
+    private volatile LazySequence pendingSequence;
+
+    public GList(List<GObject> elements) {
+        this.elements = elements;
+    }
+
+    private GList(PersistentVector vector) {
+        this.vector = vector;
+    }
+
+    private GList() {}
+
+    /**
+     * @return a lazy list, whose elements are computed from the given sequence when it is first consumed
+     */
+    public static GList lazy(LazySequence sequence) {
+        GList list = new GList();
+        list.lazy = true;
+        list.pendingSequence = sequence;
+        return list;
+    }
+
+    /**
+     * @return a list of every element of the given sequence, which are computed immediately
+     */
+    public static GList materialize(LazySequence sequence) {
+        List<GObject> elements = new ArrayList<>();
+        LazySequence.Cursor cursor = sequence.open();
+        for (GObject element = cursor.next(); element != LazySequence.END; element = cursor.next()) {
+            elements.add(element);
+        }
+        return new GList(elements);
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return a lazy list of this list's current elements
+     */
+    public GList toLazy() {
+        return lazy(asSequence(true));
+    }
+
+    /**
+     * @return the sequence of this list's elements. A lazy list whose elements have not been computed yet returns its
+     * pending sequence, so that stages built upon it are fused with it. Otherwise, lazy lists return a snapshot of their
+     * elements, whereas eager lists return a live view, which must be consumed before the list is next mutated.
+     */
+    public LazySequence asSequence() {
+        return asSequence(lazy);
+    }
+
+    /**
+     * @return the list's elements. In persistent mode this is a read-only view, so lists must be mutated via GList.
+     */
+    @Override
+    public List<GObject> value() {
+        force();
+        // The vector is always set before the elements are cleared
+        List<GObject> currentElements = elements;
+        return currentElements != null ? currentElements : vector;
+    }
 
     @Override
     public String typeName() {
@@ -16,22 +114,46 @@ public record GList(List<GObject> value) implements GIndexable {
     }
 
     public GList add(GObject value) {
-        value().add(value);
+        force();
+        if (elements != null) {
+            copyElementsIfShared();
+            elements.add(value);
+        } else {
+            vector = vector.append(value);
+        }
         return this;
     }
 
     public GList concat(GList other) {
-        List<GObject> concatenatedBackingList = new ArrayList<>(value);
-        concatenatedBackingList.addAll(other.value());
-        return new GList(concatenatedBackingList);
+        force();
+        other.force();
+        if (getSize() + other.getSize() <= PERSISTENT_THRESHOLD) {
+            List<GObject> concatenatedBackingList = new ArrayList<>(value());
+            concatenatedBackingList.addAll(other.value());
+            return new GList(concatenatedBackingList);
+        }
+        return new GList(toPersistentVector().concat(other.toPersistentVector()));
+    }
+
+    /**
+     * @return a new list of the elements from the inclusive start index to the exclusive end index
+     * @throws IndexOutOfBoundsException if the indices are out of range
+     */
+    public GList sublist(int start, int end) {
+        force();
+        List<GObject> currentElements = elements;
+        if (currentElements != null && end - start <= PERSISTENT_THRESHOLD) {
+            return new GList(new ArrayList<>(currentElements.subList(start, end)));
+        }
+        return new GList(toPersistentVector().slice(start, end));
     }
 
     @Override
     public GBoolean hasIndex(GObject index) {
-        Result<GObject, String> validationResult =  validateIndexThenApply(index, ignored -> new GBoolean(true));
+        Result<GObject, String> validationResult =  validateIndexThenApply(index, ignored -> GBoolean.TRUE);
         return switch (validationResult) {
-            case Result.Success<GObject, String> ignored -> new GBoolean(true);
-            case Result.Error<GObject, String> ignored -> new GBoolean(false);
+            case Result.Success<GObject, String> ignored -> GBoolean.TRUE;
+            case Result.Error<GObject, String> ignored -> GBoolean.FALSE;
         };
     }
 
@@ -43,7 +165,12 @@ public record GList(List<GObject> value) implements GIndexable {
     @Override
     public Result<GObject, String> setAtIndex(GObject index, GObject value) {
         return validateIndexThenApply(index, i -> {
-            value().set(i, value);
+            if (elements != null) {
+                copyElementsIfShared();
+                elements.set(i, value);
+            } else {
+                vector = vector.with(i, value);
+            }
             return this;
         });
     }
@@ -59,15 +186,77 @@ public record GList(List<GObject> value) implements GIndexable {
         return String.format("[%s]", stringifiedElements);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof GList otherList && value().equals(otherList.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GList[value=%s]", value());
+    }
+
+    private LazySequence asSequence(boolean snapshot) {
+        LazySequence sequence = pendingSequence;
+        if (sequence != null) return sequence;
+        List<GObject> currentElements = elements;
+        if (currentElements == null) return LazySequence.of(vector);
+
+        if (snapshot) elementsShared = true;
+        return LazySequence.of(currentElements);
+    }
+
+    /**
+     * Computes the elements of a lazy list, if they have not been computed yet. Threads which consume the list while
+     * it is being computed wait for its elements, so that they are only ever computed once.
+     */
+    private void force() {
+        if (pendingSequence == null) return;
+        synchronized (this) {
+            LazySequence sequence = pendingSequence;
+            if (sequence != null) {
+                elements = materialize(sequence).elements;
+                pendingSequence = null;
+            }
+        }
+    }
+
+    private void copyElementsIfShared() {
+        if (elementsShared) {
+            elements = new ArrayList<>(elements);
+            elementsShared = false;
+        }
+    }
+
+    /**
+     * Switches this list to persistent mode, so that the vector can be shared with the lists derived from it
+     */
+    private PersistentVector toPersistentVector() {
+        PersistentVector currentVector = vector;
+        if (currentVector != null) return currentVector;
+        synchronized (this) {
+            if (vector == null) {
+                vector = PersistentVector.of(elements);
+                elements = null;
+            }
+            return vector;
+        }
+    }
+
     private Result<GObject, String> validateIndexThenApply(GObject index, Function<Integer, GObject> function) {
         if (index instanceof GInteger gInt) {
-            int i = gInt.value();
+            long i = gInt.longValue();
             if (i < 0) {
                 return Result.error(String.format("List index %d must be non-negative", i));
             } else if (i >= value().size()) {
                 return Result.error(String.format("List index '%d' out of bounds for list of length %d", i, value().size()));
             }
-            return Result.success(function.apply(i));
+            return Result.success(function.apply((int) i));
         } else {
             return Result.error(String.format("List index '%s' must be an integer", index.stringify()));
         }
@@ -1,7 +1,7 @@
 package interpreter.datatypes;
 
 public sealed interface GNumeric extends GObject permits GInteger, GDouble {
-    Double toDouble();
+    double toDouble();
     GNumeric add(GNumeric other);
     GNumeric subtract(GNumeric other);
     GNumeric multiply(GNumeric other);
@@ -9,15 +9,15 @@ public sealed interface GNumeric extends GObject permits GInteger, GDouble {
     GNumeric modulo(GNumeric other);
     GNumeric power(GNumeric other);
     default GBoolean greaterThan(GNumeric other) {
-        return new GBoolean(toDouble() > other.toDouble());
+        return GBoolean.of(toDouble() > other.toDouble());
     }
     default GBoolean greaterThanOrEqualTo(GNumeric other) {
-        return new GBoolean(toDouble() >= other.toDouble());
+        return GBoolean.of(toDouble() >= other.toDouble());
     }
     default GBoolean lessThan(GNumeric other) {
-        return new GBoolean(toDouble() < other.toDouble());
+        return GBoolean.of(toDouble() < other.toDouble());
     }
     default GBoolean lessThanOrEqualTo(GNumeric other) {
-        return new GBoolean(toDouble() <= other.toDouble());
+        return GBoolean.of(toDouble() <= other.toDouble());
     }
 }
@@ -1,6 +1,6 @@
 package interpreter.datatypes;
 
-public sealed interface GObject permits GHole, GNil, GBoolean, GString, GLambda, GNumeric, GIndexable  {
+public sealed interface GObject permits GHole, GNil, GBoolean, GString, GLambda, GFuture, GNumeric, GIndexable  {
     Object value();
     String typeName();
     default String stringify() {
@@ -2,10 +2,71 @@ package interpreter.datatypes;
 
 import error.Result;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Function;
 
-public record GString(String value) implements GObject, GIndexable {
+/**
+ * An immutable string, which is either flat (backed by a String), or a rope: the lazy concatenation of two GStrings.
+ * Concatenating long strings creates a rope in constant time, and its characters are only copied into a String when
+ * its value is first needed, which makes building a string in a loop linear rather than quadratic. The flattened
+ * value is then memoized, so a rope is flattened at most once, and the rope releases its children, so that the
+ * intermediate strings it was built from (which may have been flattened themselves) can be garbage collected.
+ *
+ * Ropes are indistinguishable from flat strings to scripts: they have the same length, characters and equality.
+ */
+public final class GString implements GObject, GIndexable {
     public static final String TYPE_NAME = "string";
+    // Concatenations up to this length are copied eagerly, which is cheaper than creating a rope
+    private static final int ROPE_THRESHOLD = 64;
+    // Ropes nested deeper than this are flattened to be indexed, rather than descended through for every index
+    private static final int MAX_INDEXED_ROPE_DEPTH = 32;
+
+    // Null until a rope is flattened
+    private volatile String value;
+    // Null for flat strings, including ropes which have been flattened. A rope's value is always set before its
+    // children are released, so a reader which finds a released child can rely on the value being set.
+    private volatile GString left;
+    private volatile GString right;
+    private final int length;
+    private final int depth;
+
+    public GString(String value) {
+        this.value = value;
+        this.left = null;
+        this.right = null;
+        this.length = value.length();
+        this.depth = 0;
+    }
+
+    private GString(GString left, GString right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length + right.length;
+        this.depth = Math.max(left.depth, right.depth) + 1;
+    }
+
+    /**
+     * @return the concatenation of the given strings, as a rope if it is long enough to be worth deferring the copy
+     */
+    public static GString concat(GString left, GString right) {
+        if (left.length == 0) return right;
+        if (right.length == 0) return left;
+        if (left.length + right.length <= ROPE_THRESHOLD) return new GString(left.value() + right.value());
+        return new GString(left, right);
+    }
+
+    @Override
+    public String value() {
+        String flattenedValue = value;
+        if (flattenedValue == null) {
+            flattenedValue = flatten();
+            value = flattenedValue;
+            left = null;
+            right = null;
+        }
+        return flattenedValue;
+    }
 
     @Override
     public String typeName() {
@@ -14,16 +75,16 @@ public record GString(String value) implements GObject, GIndexable {
 
     @Override
     public GBoolean hasIndex(GObject index) {
-        Result<GObject, String> validationResult =  validateIndexThenApply(index, ignored -> new GBoolean(true));
+        Result<GObject, String> validationResult =  validateIndexThenApply(index, ignored -> GBoolean.TRUE);
         return switch (validationResult) {
-            case Result.Success<GObject, String> ignored -> new GBoolean(true);
-            case Result.Error<GObject, String> ignored -> new GBoolean(false);
+            case Result.Success<GObject, String> ignored -> GBoolean.TRUE;
+            case Result.Error<GObject, String> ignored -> GBoolean.FALSE;
         };
     }
 
     @Override
     public Result<GObject, String> getAtIndex(GObject index) {
-        return validateIndexThenApply(index, i -> new GString(String.valueOf(value.charAt(i))));
+        return validateIndexThenApply(index, i -> new GString(String.valueOf(charAt(i))));
     }
 
     @Override
@@ -31,20 +92,85 @@ public record GString(String value) implements GObject, GIndexable {
         return Result.error("Cannot set a string index to a value");
     }
 
+    /**
+     * Compares by identity first, which succeeds immediately for interned symbols (see {@link model.SymbolTable})
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof GString other && length == other.length && value().equals(other.value()));
+    }
+
+    @Override
+    public int hashCode() {
+        // Strings cache their hash, so this is only computed once per GString value
+        return value().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GString[value=%s]", value());
+    }
+
     @Override
     public int getSize() {
-        return value.length();
+        return length;
+    }
+
+    private char charAt(int index) {
+        if (value == null && depth > MAX_INDEXED_ROPE_DEPTH) return value().charAt(index);
+
+        GString node = this;
+        while (true) {
+            String nodeValue = node.value;
+            if (nodeValue != null) return nodeValue.charAt(index);
+
+            GString nodeLeft = node.left;
+            GString nodeRight = node.right;
+            // The node was flattened by another thread since its value was read
+            if (nodeLeft == null || nodeRight == null) return node.value.charAt(index);
+
+            if (index < nodeLeft.length) {
+                node = nodeLeft;
+            } else {
+                index -= nodeLeft.length;
+                node = nodeRight;
+            }
+        }
+    }
+
+    /**
+     * Copies the characters of every flat string within this rope, from left to right. Ropes built in a loop are
+     * deeply nested, so the rope is traversed with an explicit stack rather than by recursion.
+     */
+    private String flatten() {
+        StringBuilder builder = new StringBuilder(length);
+        Deque<GString> pendingNodes = new ArrayDeque<>();
+        pendingNodes.push(this);
+        while (!pendingNodes.isEmpty()) {
+            GString node = pendingNodes.pop();
+            String nodeValue = node.value;
+            GString nodeLeft = nodeValue == null ? node.left : null;
+            GString nodeRight = nodeValue == null ? node.right : null;
+            if (nodeLeft == null || nodeRight == null) {
+                // Either a flat string, or a rope which was flattened by another thread since its value was read
+                builder.append(nodeValue != null ? nodeValue : node.value);
+            } else {
+                pendingNodes.push(nodeRight);
+                pendingNodes.push(nodeLeft);
+            }
+        }
+        return builder.toString();
     }
 
     private Result<GObject, String> validateIndexThenApply(GObject index, Function<Integer, GObject> function) {
         if (index instanceof GInteger gInt) {
-            int i = gInt.value();
+            long i = gInt.longValue();
             if (i < 0) {
                 return Result.error(String.format("String index %d must be non-negative", i));
             } else if (i >= getSize()) {
                 return Result.error(String.format("String index '%d' out of bounds for String of length %d", i, getSize()));
             }
-            return Result.success(function.apply(i));
+            return Result.success(function.apply((int) i));
         } else {
             return Result.error(String.format("String index '%s' must be an integer", index.stringify()));
         }
@@ -2,16 +2,66 @@ package interpreter.datatypes;
 
 import error.Result;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public record GStruct(Map<GObject, GObject> value) implements GIndexable {
+/**
+ * A mutable struct, whose fields are stored in one of two modes:
+ *   → Shape mode: the struct's StructShape maps each field name to a slot of a compact value array. Structs built from
+ *     struct literals and named field assignments stay in this mode, so their fields can be accessed via cached slots.
+ *   → Dictionary mode: the fields are stored in a LinkedHashMap. A struct permanently switches to this mode when it is
+ *     used as a dictionary, which is when a field is added by a computed or non-string key, or when it grows beyond
+ *     {@link StructShape#MAX_FIELD_COUNT} fields. This prevents such structs from creating a new shape for every
+ *     combination of keys.
+ *
+ * Both modes preserve the insertion order of fields.
+ */
+public final class GStruct implements GIndexable {
     public static final String TYPE_NAME = "struct";
+    private static final GObject[] EMPTY_SLOT_VALUES = new GObject[0];
+
+    // Null once the struct is in dictionary mode
+    private StructShape shape = StructShape.EMPTY;
+    private GObject[] slotValues = EMPTY_SLOT_VALUES;
+    // Null while the struct is in shape mode
+    private Map<GObject, GObject> dictionary;
+
+    private GStruct() {}
 
     public static GStruct initEmptyStruct() {
-        return new GStruct(new LinkedHashMap<>());
+        return new GStruct();
+    }
+
+    /**
+     * @return the shape of this struct, or null if it is in dictionary mode
+     */
+    public StructShape getShape() {
+        return shape;
+    }
+
+    public GObject getAtSlot(int slot) {
+        return slotValues[slot];
+    }
+
+    public void setAtSlot(int slot, GObject value) {
+        slotValues[slot] = value;
+    }
+
+    /**
+     * @return a read-only view of the struct's fields, in insertion order
+     */
+    @Override
+    public Map<GObject, GObject> value() {
+        if (dictionary != null) return Collections.unmodifiableMap(dictionary);
+
+        Map<GObject, GObject> fields = new LinkedHashMap<>();
+        for (int slot = 0; slot < shape.getFieldCount(); slot ++) {
+            fields.put(shape.getFieldName(slot), slotValues[slot]);
+        }
+        return Collections.unmodifiableMap(fields);
     }
 
     @Override
@@ -21,24 +71,65 @@ public record GStruct(Map<GObject, GObject> value) implements GIndexable {
 
     @Override
     public GBoolean hasIndex(GObject index) {
-        if (value.containsKey(index)) return new GBoolean(true);
-        return new GBoolean(false);
+        if (dictionary != null) return GBoolean.of(dictionary.containsKey(index));
+        return GBoolean.of(shape.lookUpSlot(index) != StructShape.MISSING_FIELD);
     }
 
     @Override
     public Result<GObject, String> getAtIndex(GObject index) {
-        return Result.success(value().getOrDefault(index, GNil.INSTANCE));
+        if (dictionary != null) return Result.success(dictionary.getOrDefault(index, GNil.INSTANCE));
+
+        int slot = shape.lookUpSlot(index);
+        return Result.success(slot == StructShape.MISSING_FIELD ? GNil.INSTANCE : slotValues[slot]);
     }
 
+    /**
+     * Sets a field by a computed key. Adding a new field this way switches the struct to dictionary mode.
+     */
     @Override
     public Result<GObject, String> setAtIndex(GObject index, GObject value) {
-        value().put(index, value);
+        if (dictionary == null) {
+            int slot = shape.lookUpSlot(index);
+            if (slot != StructShape.MISSING_FIELD) {
+                slotValues[slot] = value;
+                return Result.success(this);
+            }
+            convertToDictionary();
+        }
+        dictionary.put(index, value);
         return Result.success(this);
     }
 
+    /**
+     * Sets a field by its name, as written in the source code (eg: in a struct literal, or via dot-notation). Adding a
+     * new field this way transitions the struct to the shape with that field appended.
+     */
+    public GStruct setField(GString fieldName, GObject value) {
+        if (dictionary != null) {
+            dictionary.put(fieldName, value);
+            return this;
+        }
+
+        int slot = shape.lookUpSlot(fieldName);
+        if (slot != StructShape.MISSING_FIELD) {
+            slotValues[slot] = value;
+        } else if (shape.getFieldCount() < StructShape.MAX_FIELD_COUNT) {
+            slot = shape.getFieldCount();
+            shape = shape.withField(fieldName);
+            if (slot == slotValues.length) {
+                slotValues = Arrays.copyOf(slotValues, Math.max(4, slotValues.length * 2));
+            }
+            slotValues[slot] = value;
+        } else {
+            convertToDictionary();
+            dictionary.put(fieldName, value);
+        }
+        return this;
+    }
+
     @Override
     public int getSize() {
-        return value().size();
+        return dictionary != null ? dictionary.size() : shape.getFieldCount();
     }
 
     @Override
@@ -48,4 +139,20 @@ public record GStruct(Map<GObject, GObject> value) implements GIndexable {
                 .collect(Collectors.joining(","));
         return "{" + stringifiedFields + "}";
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GStruct other && value().equals(other.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+
+    private void convertToDictionary() {
+        dictionary = new LinkedHashMap<>(value());
+        shape = null;
+        slotValues = null;
+    }
 }
@@ -0,0 +1,136 @@
+package interpreter.datatypes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A recipe for computing a sequence of elements on demand. Each stage (eg: a map or a filter) wraps the cursor of the
+ * stage before it, so a chain of stages is fused: every element flows through the whole chain before the next element
+ * is pulled from the source, and no intermediate lists are built. Stages such as take stop pulling from their source
+ * as soon as they are exhausted, so elements beyond them are never computed.
+ */
+@FunctionalInterface
+public interface LazySequence {
+    /**
+     * Returned by a cursor once its sequence is exhausted. Elements may be Java null (eg: an uninitialized variable),
+     * so the end of a sequence is marked by this unique instance, which is compared by identity and never escapes a
+     * cursor into a list.
+     */
+    GObject END = new GList(List.of());
+
+    /**
+     * @return a new cursor positioned at the start of the sequence. Each cursor recomputes the sequence's elements.
+     */
+    Cursor open();
+
+    @FunctionalInterface
+    interface Cursor {
+        /**
+         * @return the next element of the sequence, or {@link #END} once the sequence is exhausted
+         */
+        GObject next();
+    }
+
+    static LazySequence of(List<GObject> elements) {
+        return () -> {
+            Iterator<GObject> iterator = elements.iterator();
+            return () -> iterator.hasNext() ? iterator.next() : END;
+        };
+    }
+
+    static LazySequence map(LazySequence source, UnaryOperator<GObject> function) {
+        return () -> {
+            Cursor cursor = source.open();
+            return () -> {
+                GObject element = cursor.next();
+                return element != END ? function.apply(element) : END;
+            };
+        };
+    }
+
+    static LazySequence filter(LazySequence source, Predicate<GObject> predicate) {
+        return () -> {
+            Cursor cursor = source.open();
+            return () -> {
+                GObject element = cursor.next();
+                while (element != END && !predicate.test(element)) {
+                    element = cursor.next();
+                }
+                return element;
+            };
+        };
+    }
+
+    static LazySequence take(LazySequence source, int count) {
+        return () -> {
+            Cursor cursor = source.open();
+            int[] remaining = { count };
+            return () -> {
+                if (remaining[0] <= 0) return END;
+                remaining[0] --;
+                return cursor.next();
+            };
+        };
+    }
+
+    /**
+     * Groups consecutive elements into lists of the given size. The last list holds the remaining elements, so may be
+     * shorter.
+     */
+    static LazySequence chunk(LazySequence source, int chunkSize) {
+        return () -> {
+            Cursor cursor = source.open();
+            return () -> {
+                List<GObject> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize) {
+                    GObject element = cursor.next();
+                    if (element == END) break;
+                    chunk.add(element);
+                }
+                return chunk.isEmpty() ? END : new GList(chunk);
+            };
+        };
+    }
+
+    /**
+     * Pairs the elements of two sequences, padding the shorter sequence with nil
+     */
+    static LazySequence zip(LazySequence sourceA, LazySequence sourceB) {
+        return () -> {
+            Cursor cursorA = sourceA.open();
+            Cursor cursorB = sourceB.open();
+            return () -> {
+                GObject elementA = cursorA.next();
+                GObject elementB = cursorB.next();
+                if (elementA == END && elementB == END) return END;
+
+                List<GObject> zippedPair = new ArrayList<>(Arrays.asList(
+                        elementA != END ? elementA : GNil.INSTANCE,
+                        elementB != END ? elementB : GNil.INSTANCE));
+                return new GList(zippedPair);
+            };
+        };
+    }
+
+    /**
+     * @return the sequence of every intermediate accumulator produced by folding the source sequence
+     */
+    static LazySequence accumulate(LazySequence source, GObject initialAccumulator, BinaryOperator<GObject> function) {
+        return () -> {
+            Cursor cursor = source.open();
+            GObject[] accumulator = { initialAccumulator };
+            return () -> {
+                GObject element = cursor.next();
+                if (element == END) return END;
+
+                accumulator[0] = function.apply(accumulator[0], element);
+                return accumulator[0];
+            };
+        };
+    }
+}
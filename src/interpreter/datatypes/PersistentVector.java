@@ -0,0 +1,253 @@
+package interpreter.datatypes;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable, persistent list of GObjects, stored as a height-balanced binary tree whose leaves are chunks of up to
+ * {@link #MAX_LEAF_SIZE} elements. Every operation returns a new vector which shares all untouched subtrees with the
+ * original, which makes the following operations sub-linear:
+ *   → get, with (which replaces an element) and append: O(log n)
+ *   → concat: O(log n), by joining the shorter tree into the spine of the taller one
+ *   → slice: O(log² n), by splitting along the paths to both ends of the slice
+ *
+ * Since vectors are immutable, they are safe to share between any number of GLists.
+ */
+public final class PersistentVector extends AbstractList<GObject> {
+    public static final int MAX_LEAF_SIZE = 32;
+    public static final PersistentVector EMPTY = new PersistentVector(new Leaf(new GObject[0]));
+
+    private final Node root;
+
+    private PersistentVector(Node root) {
+        this.root = root;
+    }
+
+    public static PersistentVector of(List<GObject> elements) {
+        return new PersistentVector(buildBalanced(elements.toArray(new GObject[0]), 0, elements.size()));
+    }
+
+    @Override
+    public GObject get(int index) {
+        Objects.checkIndex(index, root.size);
+        Node node = root;
+        while (node instanceof Branch branch) {
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return ((Leaf) node).elements[index];
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    public PersistentVector with(int index, GObject element) {
+        Objects.checkIndex(index, root.size);
+        return new PersistentVector(set(root, index, element));
+    }
+
+    public PersistentVector append(GObject element) {
+        return new PersistentVector(join(root, new Leaf(new GObject[] { element })));
+    }
+
+    public PersistentVector concat(PersistentVector other) {
+        return new PersistentVector(join(root, other.root));
+    }
+
+    /**
+     * @return the elements from the inclusive start index to the exclusive end index
+     */
+    public PersistentVector slice(int start, int end) {
+        Objects.checkFromToIndex(start, end, root.size);
+        return new PersistentVector(slice(root, start, end));
+    }
+
+    @Override
+    public Iterator<GObject> iterator() {
+        return new LeafIterator(root);
+    }
+
+    private static sealed abstract class Node permits Leaf, Branch {
+        protected final int size;
+        protected final int height;
+
+        private Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        private final GObject[] elements;
+
+        private Leaf(GObject[] elements) {
+            super(elements.length, 0);
+            this.elements = elements;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node left;
+        private final Node right;
+
+        private Branch(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private static Node buildBalanced(GObject[] elements, int start, int end) {
+        if (end - start <= MAX_LEAF_SIZE) return new Leaf(Arrays.copyOfRange(elements, start, end));
+
+        // Split at a leaf boundary, so that every leaf but the last is full
+        int leafCount = (end - start + MAX_LEAF_SIZE - 1) / MAX_LEAF_SIZE;
+        int middle = start + (leafCount / 2) * MAX_LEAF_SIZE;
+        return new Branch(buildBalanced(elements, start, middle), buildBalanced(elements, middle, end));
+    }
+
+    private static Node set(Node node, int index, GObject element) {
+        return switch (node) {
+            case Leaf leaf -> {
+                GObject[] elements = leaf.elements.clone();
+                elements[index] = element;
+                yield new Leaf(elements);
+            }
+            case Branch branch -> index < branch.left.size
+                    ? new Branch(set(branch.left, index, element), branch.right)
+                    : new Branch(branch.left, set(branch.right, index - branch.left.size, element));
+        };
+    }
+
+    /**
+     * Concatenates two trees, descending the spine of the taller tree until it meets a subtree of similar height, and
+     * rebalancing on the way back up
+     */
+    private static Node join(Node left, Node right) {
+        if (left.size == 0) return right;
+        if (right.size == 0) return left;
+
+        if (left.height > right.height + 1) {
+            Branch leftBranch = (Branch) left;
+            return balance(leftBranch.left, join(leftBranch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch rightBranch = (Branch) right;
+            return balance(join(left, rightBranch.left), rightBranch.right);
+        }
+
+        // Merge adjacent small leaves, so that repeated appends and prepends do not build a tree of single elements
+        if (left instanceof Leaf leftLeaf && right instanceof Leaf rightLeaf && fitsInLeaf(leftLeaf, rightLeaf)) {
+            return mergeLeaves(leftLeaf, rightLeaf);
+        }
+        if (left instanceof Branch leftBranch && leftBranch.right instanceof Leaf leftLeaf
+                && right instanceof Leaf rightLeaf && fitsInLeaf(leftLeaf, rightLeaf)) {
+            return new Branch(leftBranch.left, mergeLeaves(leftLeaf, rightLeaf));
+        }
+        if (right instanceof Branch rightBranch && rightBranch.left instanceof Leaf rightLeaf
+                && left instanceof Leaf leftLeaf && fitsInLeaf(leftLeaf, rightLeaf)) {
+            return new Branch(mergeLeaves(leftLeaf, rightLeaf), rightBranch.right);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Creates a branch of two subtrees whose heights differ by at most two, rotating it if they differ by two
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch leftBranch = (Branch) left;
+            if (leftBranch.left.height >= leftBranch.right.height) {
+                return new Branch(leftBranch.left, new Branch(leftBranch.right, right));
+            }
+            Branch leftRight = (Branch) leftBranch.right;
+            return new Branch(
+                    new Branch(leftBranch.left, leftRight.left),
+                    new Branch(leftRight.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch rightBranch = (Branch) right;
+            if (rightBranch.right.height >= rightBranch.left.height) {
+                return new Branch(new Branch(left, rightBranch.left), rightBranch.right);
+            }
+            Branch rightLeft = (Branch) rightBranch.left;
+            return new Branch(
+                    new Branch(left, rightLeft.left),
+                    new Branch(rightLeft.right, rightBranch.right));
+        }
+        return new Branch(left, right);
+    }
+
+    private static Node slice(Node node, int start, int end) {
+        if (start == 0 && end == node.size) return node;
+        if (start == end) return EMPTY.root;
+
+        return switch (node) {
+            case Leaf leaf -> new Leaf(Arrays.copyOfRange(leaf.elements, start, end));
+            case Branch branch -> {
+                int leftSize = branch.left.size;
+                if (end <= leftSize) yield slice(branch.left, start, end);
+                if (start >= leftSize) yield slice(branch.right, start - leftSize, end - leftSize);
+                yield join(slice(branch.left, start, leftSize), slice(branch.right, 0, end - leftSize));
+            }
+        };
+    }
+
+    private static boolean fitsInLeaf(Leaf left, Leaf right) {
+        return left.size + right.size <= MAX_LEAF_SIZE;
+    }
+
+    private static Leaf mergeLeaves(Leaf left, Leaf right) {
+        GObject[] elements = Arrays.copyOf(left.elements, left.size + right.size);
+        System.arraycopy(right.elements, 0, elements, left.size, right.size);
+        return new Leaf(elements);
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, visiting every leaf once rather than descending from the root for
+     * every element
+     */
+    private static final class LeafIterator implements Iterator<GObject> {
+        private final Deque<Node> pendingNodes = new ArrayDeque<>();
+        private GObject[] currentElements = new GObject[0];
+        private int currentIndex = 0;
+
+        private LeafIterator(Node root) {
+            pendingNodes.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (currentIndex == currentElements.length) {
+                if (pendingNodes.isEmpty()) return false;
+
+                Node node = pendingNodes.pop();
+                while (node instanceof Branch branch) {
+                    pendingNodes.push(branch.right);
+                    node = branch.left;
+                }
+                currentElements = ((Leaf) node).elements;
+                currentIndex = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public GObject next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return currentElements[currentIndex++];
+        }
+    }
+}
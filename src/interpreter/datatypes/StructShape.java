@@ -0,0 +1,81 @@
+package interpreter.datatypes;
+
+import util.WeakInterner;
+
+import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A hidden class describing the layout of a GStruct: the name of each of its fields, and the slot of the struct's
+ * value array in which each field is stored. Shapes are immutable and shared by every struct whose fields were added in
+ * the same order, which allows field access sites to cache the slot of a field per shape rather than hashing the field
+ * name on every access.
+ *
+ * Adding a field to a struct moves it along a transition to the shape with that field appended. Transitions are
+ * memoized, so structs created by the same struct literal always arrive at the same shape. The shapes along transitions
+ * are only held weakly, so that the shapes (and interned field names) of the scripts which a long-lived executor has
+ * run can be garbage collected once no struct or field access site refers to them.
+ */
+public final class StructShape {
+    // Shared by the transitions of every shape (so declared before EMPTY), so that adding any transition removes every
+    // transition which has been collected
+    private static final ReferenceQueue<StructShape> COLLECTED_TRANSITIONS = new ReferenceQueue<>();
+    public static final StructShape EMPTY = new StructShape(null, new GString[0], Map.of());
+    public static final int MISSING_FIELD = -1;
+    // Structs with more fields than this are used as dictionaries, and are stored as such
+    public static final int MAX_FIELD_COUNT = 64;
+    // Shapes with at most this many fields are searched linearly for an interned field name before hashing it
+    private static final int MAX_IDENTITY_SCAN_FIELD_COUNT = 8;
+
+    // Keeps the shapes along the path to this shape alive for as long as it is, so that it remains the shape which its
+    // struct literal arrives at
+    private final StructShape parent;
+    private final GString[] fieldNames;
+    private final Map<GString, Integer> slots;
+    private final WeakInterner<GString, StructShape> transitions = new WeakInterner<>(COLLECTED_TRANSITIONS);
+
+    private StructShape(StructShape parent, GString[] fieldNames, Map<GString, Integer> slots) {
+        this.parent = parent;
+        this.fieldNames = fieldNames;
+        this.slots = slots;
+    }
+
+    /**
+     * @return the slot in which the given field is stored, or MISSING_FIELD if structs of this shape have no such field
+     */
+    public int lookUpSlot(GObject fieldName) {
+        if (fieldNames.length <= MAX_IDENTITY_SCAN_FIELD_COUNT) {
+            for (int i = 0; i < fieldNames.length; i ++) {
+                if (fieldNames[i] == fieldName) return i;
+            }
+        }
+        Integer slot = slots.get(fieldName);
+        return slot == null ? MISSING_FIELD : slot;
+    }
+
+    /**
+     * @return the shape of a struct of this shape once the given field has been added to it
+     */
+    public StructShape withField(GString fieldName) {
+        return transitions.intern(fieldName, this::createTransition);
+    }
+
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    public GString getFieldName(int slot) {
+        return fieldNames[slot];
+    }
+
+    private StructShape createTransition(GString fieldName) {
+        GString[] transitionFieldNames = Arrays.copyOf(fieldNames, fieldNames.length + 1);
+        transitionFieldNames[fieldNames.length] = fieldName;
+
+        Map<GString, Integer> transitionSlots = new HashMap<>(slots);
+        transitionSlots.put(fieldName, fieldNames.length);
+        return new StructShape(this, transitionFieldNames, transitionSlots);
+    }
+}
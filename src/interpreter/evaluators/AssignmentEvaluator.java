@@ -1,12 +1,12 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class AssignmentEvaluator implements ExpressionEvaluator<Expression.Assignment> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Assignment expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Assignment expression) {
         GObject value = interpreter.evaluateExpression(expression.value());
         interpreter.assignStackVariable(expression, value);
         return value;
@@ -1,39 +1,93 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
-import interpreter.InterpreterUtils;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.*;
 import interpreter.errors.RuntimeError;
 import model.Expression;
+import model.Token;
 
 import java.util.Objects;
 
 public class BinaryOperationEvaluator implements ExpressionEvaluator<Expression.Binary.Operation> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Binary.Operation expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Binary.Operation expression) {
         GObject left = interpreter.evaluateExpression(expression.left());
         GObject right = interpreter.evaluateExpression(expression.right());
+        return evaluateOperation(expression.operator(), left, right);
+    }
+
+    /**
+     * Evaluates a binary operation on already evaluated operands. Integer and numeric operands are dispatched to fast
+     * paths which operate on primitives and allocate nothing besides the (possibly cached) result; error objects are
+     * only constructed once an operation has failed.
+     */
+    public GObject evaluateOperation(Token operator, GObject left, GObject right) {
+        if (left instanceof GInteger leftInteger && right instanceof GInteger rightInteger) {
+            return evaluateIntegerOperation(operator, leftInteger, rightInteger);
+        }
+        if (left instanceof GNumeric leftNumeric && right instanceof GNumeric rightNumeric) {
+            return evaluateNumericOperation(operator, leftNumeric, rightNumeric);
+        }
+        return evaluateGenericOperation(operator, left, right);
+    }
+
+    private GObject evaluateIntegerOperation(Token operator, GInteger leftInteger, GInteger rightInteger) {
+        long left = leftInteger.longValue();
+        long right = rightInteger.longValue();
+        return switch (operator.type()) {
+            case GREATER -> GBoolean.of(left > right);
+            case GREATER_EQUAL -> GBoolean.of(left >= right);
+            case LESS -> GBoolean.of(left < right);
+            case LESS_EQUAL -> GBoolean.of(left <= right);
+            case PLUS -> GInteger.of(left + right);
+            case MINUS -> GInteger.of(left - right);
+            case SLASH -> GInteger.of(left / right);
+            case STAR -> GInteger.of(left * right);
+            case MODULO -> GInteger.of(left % right);
+            case POWER -> GInteger.of((long) Math.pow(left, right));
+            case EQUAL_EQUAL -> GBoolean.of(left == right);
+            case BANG_EQUAL -> GBoolean.of(left != right);
+            default -> evaluateGenericOperation(operator, leftInteger, rightInteger);
+        };
+    }
 
-        var numericEnforcementDecorator = InterpreterUtils
-                .numericEnforcementBiFunctionDecorator(expression.operator(), left, right);
-        var listEnforcementBiFunctionDecorator = InterpreterUtils
-                .listEnforcementBiFunctionDecorator(expression.operator(), left, right);
-        return switch (expression.operator().type()) {
-            case GREATER -> numericEnforcementDecorator.apply(GNumeric::greaterThan);
-            case GREATER_EQUAL -> numericEnforcementDecorator.apply(GNumeric::greaterThanOrEqualTo);
-            case LESS -> numericEnforcementDecorator.apply(GNumeric::lessThan);
-            case LESS_EQUAL -> numericEnforcementDecorator.apply(GNumeric::lessThanOrEqualTo);
-            case PLUS -> numericEnforcementDecorator.apply(GNumeric::add);
-            case MINUS -> numericEnforcementDecorator.apply(GNumeric::subtract);
-            case SLASH -> numericEnforcementDecorator.apply(GNumeric::divide);
-            case STAR -> numericEnforcementDecorator.apply(GNumeric::multiply);
-            case MODULO -> numericEnforcementDecorator.apply(GNumeric::modulo);
-            case POWER -> numericEnforcementDecorator.apply(GNumeric::power);
-            case STRING_CONCAT -> new GString(left.stringify() + right.stringify());
-            case LIST_CONCAT -> listEnforcementBiFunctionDecorator.apply(GList::concat);
-            case EQUAL_EQUAL -> new GBoolean(Objects.equals(left.value(), right.value()));
-            case BANG_EQUAL -> new GBoolean(!Objects.equals(left.value(), right.value()));
-            default -> throw new RuntimeError(expression.operator(), "Unknown binary operator");
+    private GObject evaluateNumericOperation(Token operator, GNumeric left, GNumeric right) {
+        return switch (operator.type()) {
+            case GREATER -> GBoolean.of(left.toDouble() > right.toDouble());
+            case GREATER_EQUAL -> GBoolean.of(left.toDouble() >= right.toDouble());
+            case LESS -> GBoolean.of(left.toDouble() < right.toDouble());
+            case LESS_EQUAL -> GBoolean.of(left.toDouble() <= right.toDouble());
+            case PLUS -> left.add(right);
+            case MINUS -> left.subtract(right);
+            case SLASH -> left.divide(right);
+            case STAR -> left.multiply(right);
+            case MODULO -> left.modulo(right);
+            case POWER -> left.power(right);
+            // Numerics are only equal to numerics of the same type, which their equals implementations enforce
+            case EQUAL_EQUAL -> GBoolean.of(left.equals(right));
+            case BANG_EQUAL -> GBoolean.of(!left.equals(right));
+            default -> evaluateGenericOperation(operator, left, right);
         };
     }
+
+    private GObject evaluateGenericOperation(Token operator, GObject left, GObject right) {
+        return switch (operator.type()) {
+            case GREATER, GREATER_EQUAL, LESS, LESS_EQUAL, PLUS, MINUS, SLASH, STAR, MODULO, POWER ->
+                    throw new RuntimeError(operator, "Operands must be numbers");
+            case STRING_CONCAT -> GString.concat(toGString(left), toGString(right));
+            case LIST_CONCAT -> {
+                if (left instanceof GList leftList && right instanceof GList rightList) {
+                    yield leftList.concat(rightList);
+                }
+                throw new RuntimeError(operator, "Operands must be lists");
+            }
+            case EQUAL_EQUAL -> GBoolean.of(Objects.equals(left.value(), right.value()));
+            case BANG_EQUAL -> GBoolean.of(!Objects.equals(left.value(), right.value()));
+            default -> throw new RuntimeError(operator, "Unknown binary operator");
+        };
+    }
+
+    private GString toGString(GObject operand) {
+        return operand instanceof GString gString ? gString : new GString(operand.stringify());
+    }
 }
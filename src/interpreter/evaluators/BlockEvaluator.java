@@ -1,18 +1,30 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class BlockEvaluator implements ExpressionEvaluator<Expression.Block> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Block expression) {
-        return interpreter.evaluateExpressionInNewScope(() -> {
-            GObject finalEvaluation = null;
-            for (Expression subExpression : expression.expressions()) {
-                finalEvaluation = interpreter.evaluateExpression(subExpression);
-            }
-            return finalEvaluation;
-        });
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Block expression) {
+        if (interpreter.isScopeElided(expression)) {
+            return evaluateBlockExpressions(interpreter, expression);
+        }
+        return interpreter.evaluateExpressionInNewScope(
+                () -> evaluateBlockExpressions(interpreter, expression),
+                interpreter.lookUpScopeSize(expression));
+    }
+
+    /**
+     * Evaluates the expressions of a block in the interpreter's current scope
+     *
+     * @return the result of the block's last expression
+     */
+    public GObject evaluateBlockExpressions(EvaluatingInterpreter interpreter, Expression.Block expression) {
+        GObject finalEvaluation = null;
+        for (Expression subExpression : expression.expressions()) {
+            finalEvaluation = interpreter.evaluateExpression(subExpression);
+        }
+        return finalEvaluation;
     }
 }
@@ -1,16 +1,16 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class DeclarationEvaluator implements ExpressionEvaluator<Expression.Declaration> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Declaration expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Declaration expression) {
         GObject value = expression.initializer() == null
                 ? null
                 : interpreter.evaluateExpression(expression.initializer());
-        interpreter.getCurrentScope().define(expression.variable().lexeme(), value);
+        interpreter.defineStackVariable(expression, value);
         return value;
     }
 }
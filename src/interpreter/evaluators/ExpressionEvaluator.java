@@ -1,9 +1,9 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public interface ExpressionEvaluator<T extends Expression> {
-    GObject evaluateExpression(Interpreter interpreter, T expression);
+    GObject evaluateExpression(EvaluatingInterpreter interpreter, T expression);
 }
@@ -1,12 +1,12 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class GroupEvaluator implements ExpressionEvaluator<Expression.Group> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Group expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Group expression) {
         return interpreter.evaluateExpression(expression.expression());
     }
 }
@@ -1,6 +1,6 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.InterpreterUtils;
 import interpreter.datatypes.GNil;
 import interpreter.datatypes.GObject;
@@ -8,7 +8,7 @@ import model.Expression;
 
 public class IfEvaluator implements ExpressionEvaluator<Expression.If> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.If expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.If expression) {
         if (InterpreterUtils.isTruthy(interpreter.evaluateExpression(expression.condition()))) {
             return interpreter.evaluateExpression(expression.thenBranch());
         } else if (expression.elseBranch() != null) {
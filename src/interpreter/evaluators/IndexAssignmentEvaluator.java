@@ -1,16 +1,25 @@
 package interpreter.evaluators;
 
 import error.Result;
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GIndexable;
 import interpreter.datatypes.GObject;
+import interpreter.datatypes.GStruct;
 import interpreter.errors.RuntimeError;
+import interpreter.runtime.PropertyCache;
 import model.Expression;
 
 public class IndexAssignmentEvaluator implements ExpressionEvaluator<Expression.IndexAssignment> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.IndexAssignment expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.IndexAssignment expression) {
         GObject assignee = interpreter.evaluateExpression(expression.assignee());
+        if (assignee instanceof GStruct struct) {
+            PropertyCache propertyCache = interpreter.lookUpPropertyCache(expression);
+            if (propertyCache != null) {
+                return propertyCache.setField(struct, interpreter.evaluateExpression(expression.value()));
+            }
+        }
+
         GObject index = interpreter.evaluateExpression(expression.index());
         GObject value = interpreter.evaluateExpression(expression.value());
 
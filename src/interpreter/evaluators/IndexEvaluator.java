@@ -1,16 +1,23 @@
 package interpreter.evaluators;
 
 import error.Result;
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GIndexable;
 import interpreter.datatypes.GObject;
+import interpreter.datatypes.GStruct;
 import interpreter.errors.RuntimeError;
+import interpreter.runtime.PropertyCache;
 import model.Expression;
 
 public class IndexEvaluator implements ExpressionEvaluator<Expression.Index> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Index expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Index expression) {
         GObject callee = interpreter.evaluateExpression(expression.callee());
+        if (callee instanceof GStruct struct) {
+            PropertyCache propertyCache = interpreter.lookUpPropertyCache(expression);
+            if (propertyCache != null) return propertyCache.getField(struct);
+        }
+
         GObject index = interpreter.evaluateExpression(expression.index());
 
         if (!(callee instanceof GIndexable indexable)) {
@@ -1,6 +1,6 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GLambda;
 import interpreter.datatypes.GObject;
 import interpreter.errors.RuntimeError;
@@ -10,11 +10,14 @@ import java.util.Collections;
 
 public class InfixEvaluator implements ExpressionEvaluator<Expression.Binary.Infix> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Binary.Infix expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Binary.Infix expression) {
         GObject left = interpreter.evaluateExpression(expression.left());
         GObject right = interpreter.evaluateExpression(expression.right());
 
         if (right instanceof GLambda gLambda) {
+            if (interpreter.isTailCall(expression)) {
+                return interpreter.invokeTailCall(gLambda.value(), Collections.singletonList(left), expression.operator());
+            }
             return interpreter.invokeLambda(gLambda.value(), Collections.singletonList(left), expression.operator());
         }
 
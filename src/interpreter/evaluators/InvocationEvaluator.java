@@ -1,23 +1,34 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GLambda;
 import interpreter.datatypes.GObject;
 import interpreter.errors.RuntimeError;
+import interpreter.lambda.InlineCache;
 import model.Expression;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class InvocationEvaluator implements ExpressionEvaluator<Expression.Invocation> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Invocation expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Invocation expression) {
         GObject callee = interpreter.evaluateExpression(expression.callee());
 
-        List<GObject> arguments = expression.arguments().stream()
-                .map(interpreter::evaluateExpression)
-                .toList();
+        GObject[] argumentValues = new GObject[expression.arguments().size()];
+        for (int i = 0; i < argumentValues.length; i ++) {
+            argumentValues[i] = interpreter.evaluateExpression(expression.arguments().get(i));
+        }
+        List<GObject> arguments = Arrays.asList(argumentValues);
 
         if (callee instanceof GLambda gLambda) {
+            if (interpreter.isTailCall(expression)) {
+                return interpreter.invokeTailCall(gLambda.value(), arguments, expression.closingBracket());
+            }
+            InlineCache inlineCache = interpreter.lookUpInlineCache(expression);
+            if (inlineCache != null) {
+                return interpreter.invokeLambda(gLambda.value(), arguments, expression.closingBracket(), inlineCache);
+            }
             return interpreter.invokeLambda(gLambda.value(), arguments, expression.closingBracket());
         }
 
@@ -1,6 +1,6 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GLambda;
 import interpreter.datatypes.GObject;
 import interpreter.lambda.LambdaFunction;
@@ -8,7 +8,7 @@ import model.Expression;
 
 public class LambdaEvaluator implements ExpressionEvaluator<Expression.Lambda> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Lambda expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Lambda expression) {
         return new GLambda(new LambdaFunction(expression, interpreter.getCurrentScope()));
     }
 }
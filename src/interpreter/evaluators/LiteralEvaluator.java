@@ -1,12 +1,12 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class LiteralEvaluator implements ExpressionEvaluator<Expression.Literal> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Literal expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Literal expression) {
         return expression.value();
     }
 }
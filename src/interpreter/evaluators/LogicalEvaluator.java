@@ -1,6 +1,6 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.InterpreterUtils;
 import interpreter.datatypes.GObject;
 import model.Expression;
@@ -9,7 +9,7 @@ import static model.TokenType.OR;
 
 public class LogicalEvaluator implements ExpressionEvaluator<Expression.Binary.Logical> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Binary.Logical expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Binary.Logical expression) {
         GObject left = interpreter.evaluateExpression(expression.left());
 
         // Attempt short-circuit OR
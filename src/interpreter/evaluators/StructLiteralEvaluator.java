@@ -1,22 +1,23 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import interpreter.datatypes.GString;
 import interpreter.datatypes.GStruct;
 import interpreter.errors.RuntimeError;
 import model.Expression;
+import model.SymbolTable;
 
 public class StructLiteralEvaluator implements ExpressionEvaluator<Expression.StructLiteral> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.StructLiteral expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.StructLiteral expression) {
         GStruct struct = GStruct.initEmptyStruct();
 
         for (Expression fieldExpression : expression.fields()) {
             if (fieldExpression instanceof Expression.StructFieldDeclaration field) {
-                GString fieldName = new GString(field.variable().lexeme());
+                GString fieldName = SymbolTable.intern(field.variable().lexeme());
                 GObject fieldValue = interpreter.evaluateExpression(field.initializer());
-                struct.setAtIndex(fieldName, fieldValue);
+                struct.setField(fieldName, fieldValue);
             } else {
                 throw new RuntimeError(expression.closingBracket(), "Invalid struct literal. Fields must be in the form of \"fieldName\", or \"fieldName: expression\"");
             }
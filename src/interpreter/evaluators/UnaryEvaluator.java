@@ -1,23 +1,30 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.InterpreterUtils;
 import interpreter.datatypes.GBoolean;
 import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GNumeric;
 import interpreter.datatypes.GObject;
 import interpreter.errors.RuntimeError;
 import model.Expression;
+import model.Token;
 
 public class UnaryEvaluator implements ExpressionEvaluator<Expression.Unary> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Unary expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Unary expression) {
         GObject right = interpreter.evaluateExpression(expression.right());
+        return evaluateOperation(expression.operator(), right);
+    }
 
-        var numericDecorator = InterpreterUtils.numericEnforcementFunctionDecorator(expression.operator(), right);
-        return switch (expression.operator().type()) {
-            case BANG -> new GBoolean(!InterpreterUtils.isTruthy(right));
-            case MINUS -> numericDecorator.apply(numeric -> new GInteger(0).subtract(numeric)) ;
-            default -> throw new RuntimeError(expression.operator(), "Unknown unary operator");
+    public GObject evaluateOperation(Token operator, GObject right) {
+        return switch (operator.type()) {
+            case BANG -> GBoolean.of(!InterpreterUtils.isTruthy(right));
+            case MINUS -> switch (right) {
+                case GNumeric numeric -> GInteger.of(0).subtract(numeric);
+                default -> throw new RuntimeError(operator, "Operand must be a number");
+            };
+            default -> throw new RuntimeError(operator, "Unknown unary operator");
         };
     }
 }
@@ -1,12 +1,12 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import interpreter.EvaluatingInterpreter;
 import interpreter.datatypes.GObject;
 import model.Expression;
 
 public class VariableEvaluator implements ExpressionEvaluator<Expression.Variable> {
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.Variable expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.Variable expression) {
         return interpreter.lookUpStackVariable(expression);
     }
 }
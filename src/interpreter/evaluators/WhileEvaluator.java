@@ -1,17 +1,45 @@
 package interpreter.evaluators;
 
-import interpreter.Interpreter;
+import com.google.inject.Inject;
+import interpreter.EvaluatingInterpreter;
 import interpreter.InterpreterUtils;
 import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
 import model.Expression;
 
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
 public class WhileEvaluator implements ExpressionEvaluator<Expression.While> {
+    private final BlockEvaluator blockEvaluator;
+
     @Override
-    public GObject evaluateExpression(Interpreter interpreter, Expression.While expression) {
+    public GObject evaluateExpression(EvaluatingInterpreter interpreter, Expression.While expression) {
+        if (expression.body() instanceof Expression.Block body && interpreter.isScopeReusable(body)) {
+            return evaluateWithReusedScope(interpreter, expression, body);
+        }
+
         GObject finalEvaluation = null;
         while (InterpreterUtils.isTruthy(interpreter.evaluateExpression(expression.condition()))) {
             finalEvaluation = interpreter.evaluateExpression(expression.body());
         }
         return finalEvaluation;
     }
+
+    /**
+     * Executes every iteration of the loop body in a single frame, which is cleared between iterations rather than
+     * reallocated, since no closure can capture the body's variables
+     */
+    private GObject evaluateWithReusedScope(EvaluatingInterpreter interpreter, Expression.While expression, Expression.Block body) {
+        Environment bodyScope = new Environment(interpreter.getCurrentScope(), interpreter.lookUpScopeSize(body));
+        Supplier<GObject> bodyEvaluator = () -> blockEvaluator.evaluateBlockExpressions(interpreter, body);
+
+        GObject finalEvaluation = null;
+        while (InterpreterUtils.isTruthy(interpreter.evaluateExpression(expression.condition()))) {
+            bodyScope.clearSlots();
+            finalEvaluation = interpreter.evaluateExpressionInGivenScope(bodyEvaluator, bodyScope);
+        }
+        return finalEvaluation;
+    }
 }
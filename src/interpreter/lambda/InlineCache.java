@@ -0,0 +1,58 @@
+package interpreter.lambda;
+
+import java.util.Arrays;
+
+/**
+ * A polymorphic inline cache for a single invocation site, which remembers up to {@link #MAX_ENTRIES} targets that
+ * have already passed the arity check, along with the frame size they require.
+ *
+ * Lambdas defined in GryphonScript are cached by their Lambda expression rather than by their LambdaFunction, since a
+ * new LambdaFunction is created every time a lambda expression is evaluated, while its arity and frame layout are
+ * fixed by its code. Native lambdas are cached by identity. Once a site has seen more targets than fit in the cache,
+ * it is considered megamorphic, and every further miss falls back to the generic invocation path.
+ *
+ * A site may be shared by interpreters on several threads (see StdLib.List.parMap), so entries are immutable and are
+ * published by replacing the whole entry array. Racing additions may drop an entry, which only costs a later miss.
+ */
+public class InlineCache {
+    public static final int MAX_ENTRIES = 4;
+
+    private volatile Entry[] entries = new Entry[0];
+
+    public record Entry(Object target, int frameSize) {}
+
+    /**
+     * @return the entry which caches the given target, or null if there is none
+     */
+    public Entry lookUp(Invokable invokable) {
+        Object target = toTarget(invokable);
+        for (Entry entry : entries) {
+            if (entry.target() == target) return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Caches a target whose arity has been checked against this site.
+     *
+     * @return the new entry, or null if this site is megamorphic
+     */
+    public Entry add(Invokable invokable, int frameSize) {
+        Entry[] currentEntries = entries;
+        if (currentEntries.length == MAX_ENTRIES) return null;
+
+        Entry entry = new Entry(toTarget(invokable), frameSize);
+        Entry[] newEntries = Arrays.copyOf(currentEntries, currentEntries.length + 1);
+        newEntries[currentEntries.length] = entry;
+        entries = newEntries;
+        return entry;
+    }
+
+    public boolean isMegamorphic() {
+        return entries.length == MAX_ENTRIES;
+    }
+
+    private static Object toTarget(Invokable invokable) {
+        return invokable instanceof LambdaFunction function ? function.getLambda() : invokable;
+    }
+}
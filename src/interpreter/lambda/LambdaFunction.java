@@ -1,11 +1,16 @@
 package interpreter.lambda;
 
+import interpreter.EvaluatingInterpreter;
 import interpreter.Interpreter;
 import interpreter.datatypes.GHole;
 import interpreter.datatypes.GLambda;
 import interpreter.datatypes.GObject;
+import interpreter.nodes.ExecutableNode;
 import interpreter.runtime.Environment;
+import interpreter.tiering.LambdaProfile;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import model.Expression;
 import model.Token;
 
@@ -16,25 +21,62 @@ import java.util.List;
 public class LambdaFunction implements Invokable {
     private final Expression.Lambda lambda;
     private final Environment closure;
+    // The profile shared by every closure of this lambda, which is attached by the TieredCompiler on first invocation
+    @Getter
+    @Setter
+    private LambdaProfile profile;
 
     @Override
     public int arity() {
         return lambda.parameters().size();
     }
 
+    public Expression.Lambda getLambda() {
+        return lambda;
+    }
+
     @Override
     public GObject call(Interpreter interpreter, List<GObject> arguments) {
-        return interpreter.evaluateExpressionInGivenScope(() -> {
-            var lambdaScope = interpreter.getCurrentScope();
-
-            // Define lambda parameters from  arguments
-            for (int i = 0; i < arguments.size(); i ++) {
-                var parameter = lambda.parameters().get(i);
-                var argument = arguments.get(i);
-                lambdaScope.define(parameter.lexeme(), argument);
-            }
-
-            return interpreter.evaluateExpression(lambda.body());
-        }, new Environment(closure));
+        return call(interpreter, arguments, interpreter.lookUpScopeSize(lambda));
+    }
+
+    /**
+     * Invokes this lambda with a frame size which the caller has already looked up (eg: from an InlineCache), along
+     * with any chain of tail calls it makes. Tail calls are deferred by the interpreter until the current body
+     * returns, and then executed by this loop in place of the returned frame, so that tail recursion runs in constant
+     * Java stack space.
+     */
+    public GObject call(Interpreter interpreter, List<GObject> arguments, int frameSize) {
+        // LambdaFunctions are only created by the tree-walk interpreter, so are only invoked by it (or its forks)
+        EvaluatingInterpreter evaluatingInterpreter = (EvaluatingInterpreter) interpreter;
+        GObject result = evaluateBody(evaluatingInterpreter, arguments, frameSize);
+        LambdaFunction function = this;
+        TailCall tailCall;
+        while ((tailCall = evaluatingInterpreter.takeTailCall()) != null) {
+            function = tailCall.function();
+            result = function.evaluateBody(
+                    evaluatingInterpreter,
+                    tailCall.arguments(),
+                    evaluatingInterpreter.lookUpScopeSize(function.lambda));
+        }
+        return result;
+    }
+
+    private GObject evaluateBody(EvaluatingInterpreter interpreter, List<GObject> arguments, int frameSize) {
+        var lambdaScope = new Environment(closure, frameSize);
+
+        // Define lambda parameters from arguments, which the resolver places in the leading slots of the scope
+        for (int i = 0; i < arguments.size(); i ++) {
+            lambdaScope.defineAt(i, arguments.get(i));
+        }
+
+        // Compiled bodies receive their scope directly, rather than through the interpreter's current scope
+        ExecutableNode compiledBody = interpreter.lookUpCompiledBody(this);
+        if (compiledBody != null) {
+            return compiledBody.execute(lambdaScope);
+        }
+        return interpreter.evaluateExpressionInGivenScope(
+                () -> interpreter.evaluateExpression(lambda.body()),
+                lambdaScope);
     }
 }
@@ -0,0 +1,11 @@
+package interpreter.lambda;
+
+import interpreter.datatypes.GObject;
+
+import java.util.List;
+
+/**
+ * An invocation in the tail position of a lambda body, which is deferred until the body returns so that the enclosing
+ * LambdaFunction can execute it in place of its own frame.
+ */
+public record TailCall(LambdaFunction function, List<GObject> arguments) {}
@@ -0,0 +1,34 @@
+package interpreter.lambda.memoization;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The policy which decides which results a MemoizedFunction evicts once its cache reaches its maximum size
+ */
+public enum EvictionPolicy {
+    // Evicts the least recently used result
+    LRU("lru"),
+    // Evicts the least frequently used result, breaking ties by evicting the least recently used of them
+    LFU("lfu"),
+    // Never evicts, so the cache has no maximum size
+    UNBOUNDED("unbounded");
+
+    private final String name;
+
+    EvictionPolicy(String name) {
+        this.name = name;
+    }
+
+    public static Optional<EvictionPolicy> fromName(String name) {
+        return Arrays.stream(values()).filter(policy -> policy.name.equals(name)).findFirst();
+    }
+
+    public MemoCache createCache(int maxSize) {
+        return switch (this) {
+            case LRU -> new LruMemoCache(maxSize);
+            case LFU -> new LfuMemoCache(maxSize);
+            case UNBOUNDED -> new UnboundedMemoCache();
+        };
+    }
+}
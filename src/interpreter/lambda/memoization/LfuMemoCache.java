@@ -0,0 +1,85 @@
+package interpreter.lambda.memoization;
+
+import interpreter.datatypes.GObject;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * A least frequently used cache with constant-time operations. Keys are grouped by their use count, and the lowest use
+ * count is tracked, so the eviction candidate is always the oldest key of the lowest group.
+ */
+public class LfuMemoCache implements MemoCache {
+    private final int maxSize;
+    private final Map<Object, Entry> entries = new HashMap<>();
+    // The keys with each use count, from the least to the most recently used
+    private final Map<Integer, LinkedHashSet<Object>> keysByUseCount = new HashMap<>();
+    private int minimumUseCount = 0;
+
+    private static class Entry {
+        private GObject value;
+        private int useCount = 1;
+
+        private Entry(GObject value) {
+            this.value = value;
+        }
+    }
+
+    public LfuMemoCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public GObject get(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        recordUse(key, entry);
+        return entry.value;
+    }
+
+    @Override
+    public int put(Object key, GObject value) {
+        Entry existingEntry = entries.get(key);
+        if (existingEntry != null) {
+            existingEntry.value = value;
+            recordUse(key, existingEntry);
+            return 0;
+        }
+
+        int evictedCount = 0;
+        if (entries.size() == maxSize) {
+            evictLeastFrequentlyUsed();
+            evictedCount = 1;
+        }
+        entries.put(key, new Entry(value));
+        keysByUseCount.computeIfAbsent(1, ignored -> new LinkedHashSet<>()).add(key);
+        minimumUseCount = 1;
+        return evictedCount;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    private void recordUse(Object key, Entry entry) {
+        LinkedHashSet<Object> keys = keysByUseCount.get(entry.useCount);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            keysByUseCount.remove(entry.useCount);
+            if (minimumUseCount == entry.useCount) minimumUseCount++;
+        }
+
+        entry.useCount++;
+        keysByUseCount.computeIfAbsent(entry.useCount, ignored -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void evictLeastFrequentlyUsed() {
+        LinkedHashSet<Object> keys = keysByUseCount.get(minimumUseCount);
+        Object evictedKey = keys.removeFirst();
+        if (keys.isEmpty()) keysByUseCount.remove(minimumUseCount);
+        entries.remove(evictedKey);
+    }
+}
@@ -0,0 +1,36 @@
+package interpreter.lambda.memoization;
+
+import interpreter.datatypes.GObject;
+
+import java.util.LinkedHashMap;
+
+public class LruMemoCache implements MemoCache {
+    private final int maxSize;
+    // Iterates from the least to the most recently used result, since every access moves a result to the end
+    private final LinkedHashMap<Object, GObject> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    public LruMemoCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public GObject get(Object key) {
+        return results.get(key);
+    }
+
+    @Override
+    public int put(Object key, GObject value) {
+        int evictedCount = 0;
+        if (!results.containsKey(key) && results.size() == maxSize) {
+            results.pollFirstEntry();
+            evictedCount = 1;
+        }
+        results.put(key, value);
+        return evictedCount;
+    }
+
+    @Override
+    public int size() {
+        return results.size();
+    }
+}
@@ -0,0 +1,23 @@
+package interpreter.lambda.memoization;
+
+import interpreter.datatypes.GObject;
+
+/**
+ * The store of a MemoizedFunction's results, keyed by the function's arguments. Caches are not thread-safe, so are
+ * only accessed while holding the lock of their MemoizedFunction.
+ */
+public interface MemoCache {
+    /**
+     * @return the cached result for the given key, or null if there is none
+     */
+    GObject get(Object key);
+
+    /**
+     * Caches a result, evicting other results if the cache is full
+     *
+     * @return the number of results evicted
+     */
+    int put(Object key, GObject value);
+
+    int size();
+}
@@ -0,0 +1,92 @@
+package interpreter.lambda.memoization;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GList;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GStruct;
+import interpreter.lambda.Invokable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wraps an Invokable with a cache of its results, keyed by the values of its arguments (see StdLib.Function.memoize).
+ *
+ * Lists and structs are mutable, so arguments are keyed by an immutable snapshot of their contents, taken when the
+ * function is called: mutating a list after passing it never corrupts the cache. Other values are immutable, and are
+ * keyed by their own equality (eg: the integer 1 and the double 1.0 are distinct keys, as they are unequal). Java null
+ * values (eg: uninitialized variables) are valid arguments and results, so are stored as dedicated placeholders.
+ *
+ * The cache is guarded by this function's lock, which is released while a missing result is computed, so that
+ * recursive calls can consult the cache, and concurrent callers (eg: from StdLib.List.parMap) never wait on each
+ * other's computations. Concurrent misses of the same key may therefore both compute it.
+ */
+public class MemoizedFunction implements Invokable {
+    private static final Object NULL_KEY = new Object();
+    // Caches report a missing result as null, so null results are cached as this unique instance instead
+    private static final GObject NULL_RESULT = new GList(List.of());
+
+    private final Invokable function;
+    private final MemoCache cache;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    public record Stats(long hits, long misses, long evictions, int size) {}
+
+    public MemoizedFunction(Invokable function, MemoCache cache) {
+        this.function = function;
+        this.cache = cache;
+    }
+
+    @Override
+    public int arity() {
+        return function.arity();
+    }
+
+    @Override
+    public GObject call(Interpreter interpreter, List<GObject> arguments) {
+        Object key = toKey(arguments);
+        synchronized (this) {
+            GObject cachedResult = cache.get(key);
+            if (cachedResult != null) {
+                hitCount++;
+                return cachedResult != NULL_RESULT ? cachedResult : null;
+            }
+            missCount++;
+        }
+
+        GObject result = function.call(interpreter, arguments);
+        synchronized (this) {
+            evictionCount += cache.put(key, result != null ? result : NULL_RESULT);
+        }
+        return result;
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(hitCount, missCount, evictionCount, cache.size());
+    }
+
+    private static Object toKey(List<GObject> arguments) {
+        List<Object> key = new ArrayList<>(arguments.size());
+        for (GObject argument : arguments) {
+            key.add(toKey(argument));
+        }
+        return key;
+    }
+
+    private static Object toKey(GObject value) {
+        return switch (value) {
+            case null -> NULL_KEY;
+            case GList list -> toKey(list.value());
+            case GStruct struct -> {
+                Map<Object, Object> fields = new HashMap<>();
+                struct.value().forEach((fieldName, fieldValue) -> fields.put(toKey(fieldName), toKey(fieldValue)));
+                yield fields;
+            }
+            default -> value;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package interpreter.lambda.memoization;
+
+import interpreter.datatypes.GObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class UnboundedMemoCache implements MemoCache {
+    private final Map<Object, GObject> results = new HashMap<>();
+
+    @Override
+    public GObject get(Object key) {
+        return results.get(key);
+    }
+
+    @Override
+    public int put(Object key, GObject value) {
+        results.put(key, value);
+        return 0;
+    }
+
+    @Override
+    public int size() {
+        return results.size();
+    }
+}
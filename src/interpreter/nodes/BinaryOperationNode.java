@@ -0,0 +1,125 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GBoolean;
+import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GNumeric;
+import interpreter.datatypes.GObject;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.runtime.Environment;
+import model.Token;
+
+/**
+ * A binary operation which specializes itself on the operand types it observes. The node starts uninitialized, and
+ * on its first execution commits to the narrowest specialization that handles the observed operands. If a later
+ * execution violates the specialization's type guard, the node permanently deoptimizes to the generic operation, so a
+ * polymorphic call site never flip-flops between specializations.
+ */
+public class BinaryOperationNode extends ExecutableNode {
+    private enum Specialization {
+        UNINITIALIZED,
+        // Both operands are integers
+        INTEGER,
+        // Both operands are numeric, and at least one is a double
+        NUMERIC,
+        // Any operands, handled by the BinaryOperationEvaluator
+        GENERIC
+    }
+
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    private final ExecutableNode left;
+    private final ExecutableNode right;
+    private final Token operator;
+    private Specialization specialization = Specialization.UNINITIALIZED;
+
+    public BinaryOperationNode(BinaryOperationEvaluator binaryOperationEvaluator, ExecutableNode left, ExecutableNode right, Token operator) {
+        this.binaryOperationEvaluator = binaryOperationEvaluator;
+        this.left = left;
+        this.right = right;
+        this.operator = operator;
+    }
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject leftValue = left.execute(frame);
+        GObject rightValue = right.execute(frame);
+
+        switch (specialization) {
+            case INTEGER -> {
+                if (leftValue instanceof GInteger leftInteger && rightValue instanceof GInteger rightInteger) {
+                    return executeInteger(leftInteger.longValue(), rightInteger.longValue());
+                }
+            }
+            case NUMERIC -> {
+                if (leftValue instanceof GNumeric leftNumeric && rightValue instanceof GNumeric rightNumeric
+                        && !(leftValue instanceof GInteger && rightValue instanceof GInteger)) {
+                    return executeNumeric(leftNumeric, rightNumeric);
+                }
+            }
+            case GENERIC -> {
+                return binaryOperationEvaluator.evaluateOperation(operator, leftValue, rightValue);
+            }
+            case UNINITIALIZED -> {
+                // The chosen specialization is kept in a local, since nodes may be shared by interpreters on other threads
+                Specialization newSpecialization = specialize(leftValue, rightValue);
+                specialization = newSpecialization;
+                return executeSpecialized(newSpecialization, leftValue, rightValue);
+            }
+        }
+
+        // The type guard of the current specialization failed
+        specialization = Specialization.GENERIC;
+        return binaryOperationEvaluator.evaluateOperation(operator, leftValue, rightValue);
+    }
+
+    private GObject executeSpecialized(Specialization specialization, GObject leftValue, GObject rightValue) {
+        return switch (specialization) {
+            case INTEGER -> executeInteger(((GInteger) leftValue).longValue(), ((GInteger) rightValue).longValue());
+            case NUMERIC -> executeNumeric((GNumeric) leftValue, (GNumeric) rightValue);
+            default -> binaryOperationEvaluator.evaluateOperation(operator, leftValue, rightValue);
+        };
+    }
+
+    private Specialization specialize(GObject leftValue, GObject rightValue) {
+        boolean isNumericOperator = switch (operator.type()) {
+            case PLUS, MINUS, STAR, SLASH, MODULO, POWER, GREATER, GREATER_EQUAL, LESS, LESS_EQUAL -> true;
+            default -> false;
+        };
+
+        if (!isNumericOperator) return Specialization.GENERIC;
+        if (leftValue instanceof GInteger && rightValue instanceof GInteger) return Specialization.INTEGER;
+        if (leftValue instanceof GNumeric && rightValue instanceof GNumeric) return Specialization.NUMERIC;
+        return Specialization.GENERIC;
+    }
+
+    private GObject executeInteger(long left, long right) {
+        return switch (operator.type()) {
+            case PLUS -> GInteger.of(left + right);
+            case MINUS -> GInteger.of(left - right);
+            case STAR -> GInteger.of(left * right);
+            case SLASH -> GInteger.of(left / right);
+            case MODULO -> GInteger.of(left % right);
+            case POWER -> GInteger.of((long) Math.pow(left, right));
+            case GREATER -> GBoolean.of(left > right);
+            case GREATER_EQUAL -> GBoolean.of(left >= right);
+            case LESS -> GBoolean.of(left < right);
+            case LESS_EQUAL -> GBoolean.of(left <= right);
+            default -> binaryOperationEvaluator.evaluateOperation(operator, GInteger.of(left), GInteger.of(right));
+        };
+    }
+
+    private GObject executeNumeric(GNumeric left, GNumeric right) {
+        return switch (operator.type()) {
+            case PLUS -> left.add(right);
+            case MINUS -> left.subtract(right);
+            case STAR -> left.multiply(right);
+            case SLASH -> left.divide(right);
+            case MODULO -> left.modulo(right);
+            case POWER -> left.power(right);
+            case GREATER -> left.greaterThan(right);
+            case GREATER_EQUAL -> left.greaterThanOrEqualTo(right);
+            case LESS -> left.lessThan(right);
+            case LESS_EQUAL -> left.lessThanOrEqualTo(right);
+            default -> binaryOperationEvaluator.evaluateOperation(operator, left, right);
+        };
+    }
+}
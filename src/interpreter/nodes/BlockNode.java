@@ -0,0 +1,21 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class BlockNode extends ExecutableNode {
+    private final int scopeSize;
+    private final ExecutableNode[] expressions;
+
+    @Override
+    public GObject execute(Environment frame) {
+        Environment blockFrame = new Environment(frame, scopeSize);
+        GObject finalEvaluation = null;
+        for (ExecutableNode expression : expressions) {
+            finalEvaluation = expression.execute(blockFrame);
+        }
+        return finalEvaluation;
+    }
+}
@@ -0,0 +1,77 @@
+package interpreter.nodes;
+
+import config.ExecutionLimits;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import model.Token;
+
+/**
+ * Counts the nested calls made by the node engine, so that a program which recurses beyond the configured
+ * ExecutionLimits raises a RuntimeError rather than exhausting the JVM stack. Compiled nodes are shared by every fork of
+ * the NodeTreeInterpreter which compiled them, and each fork executes them on its own thread, so the depth of each
+ * thread's calls is counted separately.
+ *
+ * Each thread also holds the call in tail position deferred by the lambda body it is executing, which the enclosing
+ * NodeClosure makes once the body returns, rather than nesting it within the current call.
+ */
+public class CallStack {
+    private final ExecutionLimits executionLimits;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    public CallStack(ExecutionLimits executionLimits) {
+        this.executionLimits = executionLimits;
+    }
+
+    /**
+     * Records the start of a call, which must be ended by passing the returned state to {@link #exit}
+     *
+     * @throws RuntimeError if the call would exceed the maximum stack depth
+     */
+    State enter(Token token) {
+        State currentState = state.get();
+        if (currentState.depth == executionLimits.maxStackDepth()) {
+            throw new RuntimeError(token, executionLimits.getStackDepthExceededMessage());
+        }
+        currentState.depth++;
+        return currentState;
+    }
+
+    void exit(State currentState) {
+        currentState.depth--;
+    }
+
+    /**
+     * @return the state of the current thread, without recording a call
+     */
+    State current() {
+        return state.get();
+    }
+
+    static final class State {
+        private int depth;
+        // Null unless the lambda body being executed has deferred a call in tail position
+        private NodeClosure tailCallee;
+        private GObject[] tailArguments;
+
+        void deferTailCall(NodeClosure callee, GObject[] arguments) {
+            tailCallee = callee;
+            tailArguments = arguments;
+        }
+
+        /**
+         * @return the callee of the deferred tail call, whose arguments are then available from
+         * {@link #takeTailArguments}, or null if none was deferred
+         */
+        NodeClosure takeTailCallee() {
+            NodeClosure callee = tailCallee;
+            tailCallee = null;
+            return callee;
+        }
+
+        GObject[] takeTailArguments() {
+            GObject[] arguments = tailArguments;
+            tailArguments = null;
+            return arguments;
+        }
+    }
+}
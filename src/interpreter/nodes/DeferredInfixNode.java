@@ -0,0 +1,37 @@
+package interpreter.nodes;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+/**
+ * An infix invocation in tail position, which defers calls of NodeClosures to the trampoline of the enclosing
+ * NodeClosure
+ */
+@RequiredArgsConstructor
+public class DeferredInfixNode extends ExecutableNode {
+    private final Interpreter interpreter;
+    private final ExecutableNode left;
+    private final ExecutableNode right;
+    private final Token operator;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject leftValue = left.execute(frame);
+        GObject rightValue = right.execute(frame);
+
+        if (rightValue instanceof GLambda gLambda) {
+            GObject[] arguments = new GObject[] { leftValue };
+            if (gLambda.value() instanceof NodeClosure closure) {
+                return closure.deferTailCall(arguments, operator);
+            }
+            return InvocationNode.invoke(interpreter, gLambda.value(), arguments, operator);
+        }
+
+        throw new RuntimeError(operator, "Infix operator '|>' must have a lambda as the second operand");
+    }
+}
@@ -0,0 +1,39 @@
+package interpreter.nodes;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+/**
+ * An invocation in tail position, which defers calls of NodeClosures to the trampoline of the enclosing NodeClosure
+ */
+@RequiredArgsConstructor
+public class DeferredInvocationNode extends ExecutableNode {
+    private final Interpreter interpreter;
+    private final ExecutableNode callee;
+    private final ExecutableNode[] arguments;
+    private final Token closingBracket;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject calleeValue = callee.execute(frame);
+
+        GObject[] argumentValues = new GObject[arguments.length];
+        for (int i = 0; i < arguments.length; i ++) {
+            argumentValues[i] = arguments[i].execute(frame);
+        }
+
+        if (calleeValue instanceof GLambda gLambda) {
+            if (gLambda.value() instanceof NodeClosure closure) {
+                return closure.deferTailCall(argumentValues, closingBracket);
+            }
+            return InvocationNode.invoke(interpreter, gLambda.value(), argumentValues, closingBracket);
+        }
+
+        throw new RuntimeError(closingBracket, "Can only call functions and classes");
+    }
+}
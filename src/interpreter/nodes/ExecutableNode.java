@@ -0,0 +1,12 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+
+/**
+ * An expression compiled into a directly executable object. Each node evaluates its own children, so executing a
+ * program does not go through a central dispatch over expression types.
+ */
+public abstract class ExecutableNode {
+    public abstract GObject execute(Environment frame);
+}
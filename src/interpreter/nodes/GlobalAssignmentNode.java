@@ -0,0 +1,20 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class GlobalAssignmentNode extends ExecutableNode {
+    private final Environment globalEnvironment;
+    private final Token name;
+    private final ExecutableNode value;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject result = value.execute(frame);
+        globalEnvironment.assign(name, result);
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class GlobalDeclarationNode extends ExecutableNode {
+    private final Environment globalEnvironment;
+    private final Token name;
+    private final ExecutableNode nullableInitializer;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject value = nullableInitializer == null ? null : nullableInitializer.execute(frame);
+        globalEnvironment.define(name.lexeme(), value);
+        return value;
+    }
+}
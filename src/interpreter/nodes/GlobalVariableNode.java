@@ -0,0 +1,17 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class GlobalVariableNode extends ExecutableNode {
+    private final Environment globalEnvironment;
+    private final Token name;
+
+    @Override
+    public GObject execute(Environment frame) {
+        return globalEnvironment.get(name);
+    }
+}
@@ -0,0 +1,25 @@
+package interpreter.nodes;
+
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IfNode extends ExecutableNode {
+    private final ExecutableNode condition;
+    private final ExecutableNode thenBranch;
+    private final ExecutableNode nullableElseBranch;
+
+    @Override
+    public GObject execute(Environment frame) {
+        if (InterpreterUtils.isTruthy(condition.execute(frame))) {
+            return thenBranch.execute(frame);
+        } else if (nullableElseBranch != null) {
+            return nullableElseBranch.execute(frame);
+        } else {
+            return GNil.INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package interpreter.nodes;
+
+import error.Result;
+import interpreter.datatypes.GIndexable;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GStruct;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class IndexAssignmentNode extends ExecutableNode {
+    private final ExecutableNode assignee;
+    private final ExecutableNode index;
+    private final ExecutableNode value;
+    private final Token closingBracket;
+    // Null unless the index is a literal field name
+    private final PropertyCache propertyCache;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject assigneeValue = assignee.execute(frame);
+        if (propertyCache != null && assigneeValue instanceof GStruct struct) {
+            return propertyCache.setField(struct, value.execute(frame));
+        }
+
+        GObject indexValue = index.execute(frame);
+        GObject valueValue = value.execute(frame);
+
+        if (!(assigneeValue instanceof GIndexable indexable)) {
+            throw new RuntimeError(closingBracket, "Cannot index a primitive data type, only lists and structs can be indexed");
+        }
+
+        Result<GObject, String> result = indexable.setAtIndex(indexValue, valueValue);
+        return switch (result) {
+            case Result.Success<GObject, String> success -> success.value();
+            case Result.Error<GObject, String> error -> throw new RuntimeError(closingBracket, error.value());
+        };
+    }
+}
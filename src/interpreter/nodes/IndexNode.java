@@ -0,0 +1,40 @@
+package interpreter.nodes;
+
+import error.Result;
+import interpreter.datatypes.GIndexable;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GStruct;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class IndexNode extends ExecutableNode {
+    private final ExecutableNode callee;
+    private final ExecutableNode index;
+    private final Token closingBracketOrDot;
+    // Null unless the index is a literal field name
+    private final PropertyCache propertyCache;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject calleeValue = callee.execute(frame);
+        if (propertyCache != null && calleeValue instanceof GStruct struct) {
+            return propertyCache.getField(struct);
+        }
+
+        GObject indexValue = index.execute(frame);
+
+        if (!(calleeValue instanceof GIndexable indexable)) {
+            throw new RuntimeError(closingBracketOrDot, "Cannot index a primitive data type or lambda, only lists and structs can be indexed");
+        }
+
+        Result<GObject, String> result = indexable.getAtIndex(indexValue);
+        return switch (result) {
+            case Result.Success<GObject, String> success -> success.value();
+            case Result.Error<GObject, String> error -> throw new RuntimeError(closingBracketOrDot, error.value());
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package interpreter.nodes;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class InfixNode extends ExecutableNode {
+    private final Interpreter interpreter;
+    private final ExecutableNode left;
+    private final ExecutableNode right;
+    private final Token operator;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject leftValue = left.execute(frame);
+        GObject rightValue = right.execute(frame);
+
+        if (rightValue instanceof GLambda gLambda) {
+            return InvocationNode.invoke(interpreter, gLambda.value(), new GObject[] { leftValue }, operator);
+        }
+
+        throw new RuntimeError(operator, "Infix operator '|>' must have a lambda as the second operand");
+    }
+}
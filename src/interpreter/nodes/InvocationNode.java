@@ -0,0 +1,44 @@
+package interpreter.nodes;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.lambda.Invokable;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+import java.util.Arrays;
+
+@RequiredArgsConstructor
+public class InvocationNode extends ExecutableNode {
+    private final Interpreter interpreter;
+    private final ExecutableNode callee;
+    private final ExecutableNode[] arguments;
+    private final Token closingBracket;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject calleeValue = callee.execute(frame);
+
+        GObject[] argumentValues = new GObject[arguments.length];
+        for (int i = 0; i < arguments.length; i ++) {
+            argumentValues[i] = arguments[i].execute(frame);
+        }
+
+        if (calleeValue instanceof GLambda gLambda) {
+            return invoke(interpreter, gLambda.value(), argumentValues, closingBracket);
+        }
+
+        throw new RuntimeError(closingBracket, "Can only call functions and classes");
+    }
+
+    static GObject invoke(Interpreter interpreter, Invokable invokable, GObject[] arguments, Token token) {
+        // Closures compiled to nodes are called directly, while native library functions go through the interpreter
+        if (invokable instanceof NodeClosure closure) {
+            return closure.call(arguments, token);
+        }
+        return interpreter.invokeLambda(invokable, Arrays.asList(arguments), token);
+    }
+}
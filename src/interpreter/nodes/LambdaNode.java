@@ -0,0 +1,21 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class LambdaNode extends ExecutableNode {
+    private final int arity;
+    private final int scopeSize;
+    private final ExecutableNode body;
+    private final CallStack callStack;
+
+    @Override
+    public GObject execute(Environment frame) {
+        return new GLambda(new NodeClosure(this, frame));
+    }
+}
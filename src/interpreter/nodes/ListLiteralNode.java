@@ -0,0 +1,23 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GList;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ListLiteralNode extends ExecutableNode {
+    private final ExecutableNode[] elements;
+
+    @Override
+    public GObject execute(Environment frame) {
+        List<GObject> backingList = new ArrayList<>(elements.length);
+        for (ExecutableNode element : elements) {
+            backingList.add(element.execute(frame));
+        }
+        return new GList(backingList);
+    }
+}
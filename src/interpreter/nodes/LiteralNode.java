@@ -0,0 +1,15 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LiteralNode extends ExecutableNode {
+    private final GObject value;
+
+    @Override
+    public GObject execute(Environment frame) {
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LocalAssignmentNode extends ExecutableNode {
+    private final int depth;
+    private final int slot;
+    private final ExecutableNode value;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject result = value.execute(frame);
+        frame.assignAtAncestor(depth, slot, result);
+        return result;
+    }
+}
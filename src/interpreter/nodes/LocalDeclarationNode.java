@@ -0,0 +1,18 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LocalDeclarationNode extends ExecutableNode {
+    private final int slot;
+    private final ExecutableNode nullableInitializer;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject value = nullableInitializer == null ? null : nullableInitializer.execute(frame);
+        frame.defineAt(slot, value);
+        return value;
+    }
+}
@@ -0,0 +1,16 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LocalVariableNode extends ExecutableNode {
+    private final int depth;
+    private final int slot;
+
+    @Override
+    public GObject execute(Environment frame) {
+        return frame.getAt(depth, slot);
+    }
+}
@@ -0,0 +1,23 @@
+package interpreter.nodes;
+
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LogicalNode extends ExecutableNode {
+    private final ExecutableNode left;
+    private final ExecutableNode right;
+    private final boolean isOr;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject leftValue = left.execute(frame);
+
+        // Attempt short-circuit OR, or short-circuit AND
+        if (isOr == InterpreterUtils.isTruthy(leftValue)) return leftValue;
+
+        return right.execute(frame);
+    }
+}
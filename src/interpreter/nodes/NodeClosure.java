@@ -0,0 +1,84 @@
+package interpreter.nodes;
+
+import config.ExecutionLimits;
+import interpreter.Interpreter;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.lambda.Invokable;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class NodeClosure implements Invokable {
+    private final LambdaNode lambda;
+    private final Environment closure;
+
+    @Override
+    public int arity() {
+        return lambda.getArity();
+    }
+
+    @Override
+    public GObject call(Interpreter interpreter, List<GObject> arguments) {
+        return trampoline(arguments.toArray(GObject[]::new), lambda.getCallStack().current());
+    }
+
+    /**
+     * Invokes the closure directly from an invocation node, without wrapping the arguments in a list. The call counts
+     * towards the stack depth of the current thread.
+     */
+    public GObject call(GObject[] arguments, Token token) {
+        checkArity(arguments, token);
+        CallStack callStack = lambda.getCallStack();
+        CallStack.State state = callStack.enter(token);
+        try {
+            return trampoline(arguments, state);
+        } catch (StackOverflowError error) {
+            // The JVM stack was exhausted before the configured limit was reached
+            throw new RuntimeError(token, ExecutionLimits.JVM_STACK_EXCEEDED_MESSAGE);
+        } finally {
+            callStack.exit(state);
+        }
+    }
+
+    /**
+     * Defers a call of the closure from the tail position of the lambda body being executed, until that body returns
+     * to its trampoline
+     *
+     * @return a placeholder value, which must be returned from the lambda body unchanged
+     */
+    GObject deferTailCall(GObject[] arguments, Token token) {
+        checkArity(arguments, token);
+        lambda.getCallStack().current().deferTailCall(this, arguments);
+        return null;
+    }
+
+    /**
+     * Executes the body of this closure, followed by each call its body (and then each subsequent callee's body)
+     * defers from tail position, in place of the call that deferred it
+     */
+    private GObject trampoline(GObject[] arguments, CallStack.State state) {
+        GObject result = execute(arguments);
+        for (NodeClosure callee = state.takeTailCallee(); callee != null; callee = state.takeTailCallee()) {
+            result = callee.execute(state.takeTailArguments());
+        }
+        return result;
+    }
+
+    private GObject execute(GObject[] arguments) {
+        Environment lambdaFrame = new Environment(closure, lambda.getScopeSize());
+        for (int i = 0; i < arguments.length; i ++) {
+            lambdaFrame.defineAt(i, arguments[i]);
+        }
+        return lambda.getBody().execute(lambdaFrame);
+    }
+
+    private void checkArity(GObject[] arguments, Token token) {
+        if (arguments.length != arity()) {
+            throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", arity(), arguments.length));
+        }
+    }
+}
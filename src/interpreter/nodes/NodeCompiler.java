@@ -0,0 +1,171 @@
+package interpreter.nodes;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GString;
+import interpreter.errors.RuntimeError;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.runtime.Environment;
+import interpreter.runtime.StackSlot;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import model.SugarExpression;
+import model.SymbolTable;
+import resolver.ResolutionTable;
+
+import java.util.List;
+
+import static model.TokenType.OR;
+
+/**
+ * Compiles desugared and resolved expressions into trees of ExecutableNodes. Variable references are bound to their
+ * resolved stack slots (or the global environment) at compile time, so nodes never consult the ResolutionTable while
+ * executing.
+ */
+@RequiredArgsConstructor
+public class NodeCompiler {
+    protected final Interpreter interpreter;
+    protected final ResolutionTable resolutionTable;
+    private final Environment globalEnvironment;
+    private final UnaryEvaluator unaryEvaluator;
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    // Null if this compiler never compiles lambda expressions into NodeClosures
+    private final CallStack callStack;
+
+    public ExecutableNode compile(Expression expression) {
+        return switch (expression) {
+            case Expression.Literal literal -> new LiteralNode(literal.value());
+            case Expression.ListLiteral listLiteral -> new ListLiteralNode(compileAll(listLiteral.values()));
+            case Expression.StructFieldDeclaration fieldDeclaration -> compile(fieldDeclaration.initializer());
+            case Expression.StructLiteral structLiteral -> compileStructLiteral(structLiteral);
+            case Expression.Variable variable -> {
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(variable);
+                yield stackSlot != null
+                        ? new LocalVariableNode(stackSlot.depth(), stackSlot.slot())
+                        : new GlobalVariableNode(globalEnvironment, variable.name());
+            }
+            case Expression.Declaration declaration -> {
+                ExecutableNode initializer = declaration.initializer() == null ? null : compile(declaration.initializer());
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(declaration);
+                yield stackSlot != null
+                        ? new LocalDeclarationNode(stackSlot.slot(), initializer)
+                        : new GlobalDeclarationNode(globalEnvironment, declaration.variable(), initializer);
+            }
+            case Expression.Assignment assignment -> {
+                ExecutableNode value = compile(assignment.value());
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(assignment);
+                yield stackSlot != null
+                        ? new LocalAssignmentNode(stackSlot.depth(), stackSlot.slot(), value)
+                        : new GlobalAssignmentNode(globalEnvironment, assignment.variable(), value);
+            }
+            case Expression.IndexAssignment indexAssignment -> new IndexAssignmentNode(
+                    compile(indexAssignment.assignee()),
+                    compile(indexAssignment.index()),
+                    compile(indexAssignment.value()),
+                    indexAssignment.closingBracket(),
+                    resolutionTable.lookUpPropertyCache(indexAssignment));
+            case Expression.Index index -> new IndexNode(
+                    compile(index.callee()),
+                    compile(index.index()),
+                    index.closingBracketOrDot(),
+                    resolutionTable.lookUpPropertyCache(index));
+            case Expression.Group group -> compile(group.expression());
+            case Expression.Unary unary -> new UnaryNode(unaryEvaluator, unary.operator(), compile(unary.right()));
+            case Expression.Binary.Operation operation -> new BinaryOperationNode(
+                    binaryOperationEvaluator,
+                    compile(operation.left()),
+                    compile(operation.right()),
+                    operation.operator());
+            case Expression.Binary.Logical logical -> new LogicalNode(
+                    compile(logical.left()),
+                    compile(logical.right()),
+                    logical.operator().type() == OR);
+            case Expression.Binary.Infix infix -> compileInfix(infix);
+            case Expression.Block block -> resolutionTable.isScopeElided(block)
+                    ? new SequenceNode(compileAll(block.expressions()))
+                    : new BlockNode(resolutionTable.lookUpScopeSize(block), compileAll(block.expressions()));
+            case Expression.If ifExpression -> new IfNode(
+                    compile(ifExpression.condition()),
+                    compile(ifExpression.thenBranch()),
+                    ifExpression.elseBranch() == null ? null : compile(ifExpression.elseBranch()));
+            case Expression.While whileExpression -> compileWhile(whileExpression);
+            case Expression.Invocation invocation -> compileInvocation(invocation);
+            case Expression.Lambda lambda -> compileLambda(lambda);
+            case SugarExpression sugarExpression -> throw new RuntimeError(sugarExpression.getErrorReportingToken(), "A sugar expression was encountered in the node compiler, which caused it to panic. This expression cannot be compiled, and should have been desugared before compilation. This is a bug in the GryphonScipt language implementation.");
+        };
+    }
+
+    protected ExecutableNode compileInvocation(Expression.Invocation invocation) {
+        if (resolutionTable.isTailCall(invocation)) {
+            return new DeferredInvocationNode(
+                    interpreter,
+                    compile(invocation.callee()),
+                    compileAll(invocation.arguments()),
+                    invocation.closingBracket());
+        }
+
+        return new InvocationNode(
+                interpreter,
+                compile(invocation.callee()),
+                compileAll(invocation.arguments()),
+                invocation.closingBracket());
+    }
+
+    protected ExecutableNode compileInfix(Expression.Binary.Infix infix) {
+        if (resolutionTable.isTailCall(infix)) {
+            return new DeferredInfixNode(
+                    interpreter,
+                    compile(infix.left()),
+                    compile(infix.right()),
+                    infix.operator());
+        }
+
+        return new InfixNode(
+                interpreter,
+                compile(infix.left()),
+                compile(infix.right()),
+                infix.operator());
+    }
+
+    protected ExecutableNode compileLambda(Expression.Lambda lambda) {
+        return new LambdaNode(
+                lambda.parameters().size(),
+                resolutionTable.lookUpScopeSize(lambda),
+                compile(lambda.body()),
+                callStack);
+    }
+
+    public ExecutableNode[] compileAll(List<Expression> expressions) {
+        ExecutableNode[] nodes = new ExecutableNode[expressions.size()];
+        for (int i = 0; i < nodes.length; i ++) {
+            nodes[i] = compile(expressions.get(i));
+        }
+        return nodes;
+    }
+
+    private ExecutableNode compileWhile(Expression.While whileExpression) {
+        if (whileExpression.body() instanceof Expression.Block body && resolutionTable.isScopeReusable(body)) {
+            return new ReusedFrameWhileNode(
+                    compile(whileExpression.condition()),
+                    resolutionTable.lookUpScopeSize(body),
+                    compileAll(body.expressions()));
+        }
+        return new WhileNode(
+                compile(whileExpression.condition()),
+                compile(whileExpression.body()));
+    }
+
+    private ExecutableNode compileStructLiteral(Expression.StructLiteral structLiteral) {
+        GString[] fieldNames = new GString[structLiteral.fields().size()];
+        ExecutableNode[] fieldValues = new ExecutableNode[structLiteral.fields().size()];
+        for (int i = 0; i < fieldNames.length; i ++) {
+            if (structLiteral.fields().get(i) instanceof Expression.StructFieldDeclaration field) {
+                fieldNames[i] = SymbolTable.intern(field.variable().lexeme());
+                fieldValues[i] = compile(field.initializer());
+            } else {
+                throw new RuntimeError(structLiteral.closingBracket(), "Invalid struct literal. Fields must be in the form of \"fieldName\", or \"fieldName: expression\"");
+            }
+        }
+        return new StructLiteralNode(fieldNames, fieldValues);
+    }
+}
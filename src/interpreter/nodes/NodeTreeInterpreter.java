@@ -0,0 +1,189 @@
+package interpreter.nodes;
+
+import com.google.inject.Inject;
+import config.ExecutionLimits;
+import config.ExecutionScoped;
+import error.ErrorReporter;
+import interpreter.Interpreter;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.lambda.InvocationExecutionError;
+import interpreter.lambda.Invokable;
+import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.ScriptOutput;
+import interpreter.runtime.StackSlot;
+import interpreter.standardlibrary.LibraryStructFactory;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import model.Token;
+import resolver.ResolutionTable;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A tree-walk Interpreter which first compiles each program into a tree of self-specializing ExecutableNodes, then
+ * executes the nodes directly. Nodes receive their frame as an argument, so the scope-based Interpreter methods below
+ * only apply to expressions evaluated through the Interpreter API itself.
+ */
+@ExecutionScoped
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
+public class NodeTreeInterpreter implements Interpreter {
+    private final ErrorReporter errorReporter;
+    private final ScriptOutput scriptOutput;
+    private final LibraryStructFactory libraryStructFactory;
+    private final UnaryEvaluator unaryEvaluator;
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    private final ExecutionLimits executionLimits;
+    // Shared with every fork of this interpreter
+    private ResolutionTable resolutionTable = new ResolutionTable();
+    private CallStack callStack;
+    private Environment globalEnvironment = Environment.createGlobalEnvironment();
+    private Environment currentEnvironment = globalEnvironment;
+
+    @Override
+    public GObject executeProgram(List<Expression> expressions) {
+        // Add standard library to the global scope
+        globalEnvironment.define(
+                libraryStructFactory.getStandardLibraryName(),
+                libraryStructFactory.buildStandardLibraryStruct());
+
+        GObject finalExpressionResult = null;
+        try {
+            for (ExecutableNode node : createCompiler().compileAll(expressions)) {
+                finalExpressionResult = node.execute(globalEnvironment);
+            }
+        } catch (RuntimeError error) {
+            errorReporter.reportRuntimeError(error);
+        } finally {
+            scriptOutput.flush();
+        }
+        return finalExpressionResult;
+    }
+
+    @Override
+    public GObject evaluateExpression(Expression expression) {
+        return createCompiler().compile(expression).execute(currentEnvironment);
+    }
+
+    @Override
+    public GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator, int scopeSize) {
+        return evaluateExpressionInGivenScope(expressionEvaluator, new Environment(currentEnvironment, scopeSize));
+    }
+
+    @Override
+    public GObject evaluateExpressionInGivenScope(Supplier<GObject> expressionEvaluator, Environment scope) {
+        Environment previousEnvironment = currentEnvironment;
+        currentEnvironment = scope;
+        try {
+            return expressionEvaluator.get();
+        } finally {
+            currentEnvironment = previousEnvironment;
+        }
+    }
+
+    @Override
+    public Environment getCurrentScope() {
+        return currentEnvironment;
+    }
+
+    @Override
+    public void loadResolutionTable(ResolutionTable resolutionTable) {
+        this.resolutionTable.merge(resolutionTable);
+    }
+
+    @Override
+    public int lookUpScopeSize(Expression scope) {
+        return resolutionTable.lookUpScopeSize(scope);
+    }
+
+    @Override
+    public boolean isScopeElided(Expression.Block block) {
+        return resolutionTable.isScopeElided(block);
+    }
+
+    @Override
+    public boolean isScopeReusable(Expression.Block block) {
+        return resolutionTable.isScopeReusable(block);
+    }
+
+    @Override
+    public void defineStackVariable(Expression.Declaration declaration, GObject value) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(declaration);
+        if (stackSlot != null) {
+            currentEnvironment.defineAt(stackSlot.slot(), value);
+        } else {
+            globalEnvironment.define(declaration.variable().lexeme(), value);
+        }
+    }
+
+    @Override
+    public void assignStackVariable(Expression.Assignment expression, GObject value) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(expression);
+        if (stackSlot != null) {
+            currentEnvironment.assignAtAncestor(stackSlot.depth(), stackSlot.slot(), value);
+        } else {
+            globalEnvironment.assign(expression.variable(), value);
+        }
+    }
+
+    @Override
+    public GObject lookUpStackVariable(Expression.Variable variable) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(variable);
+        if (stackSlot != null) {
+            return currentEnvironment.getAt(stackSlot.depth(), stackSlot.slot());
+        } else {
+            return globalEnvironment.get(variable.name());
+        }
+    }
+
+    @Override
+    public GObject invokeLambda(Invokable invokable, List<GObject> arguments, Token token) {
+        if (arguments.size() != invokable.arity()) {
+            throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", invokable.arity(), arguments.size()));
+        }
+        CallStack.State state = getCallStack().enter(token);
+        try {
+            return invokable.call(this, arguments);
+        } catch (InvocationExecutionError error) {
+            throw new RuntimeError(token, error.getMessage());
+        } catch (StackOverflowError error) {
+            // The JVM stack was exhausted before the configured limit was reached
+            throw new RuntimeError(token, ExecutionLimits.JVM_STACK_EXCEEDED_MESSAGE);
+        } finally {
+            callStack.exit(state);
+        }
+    }
+
+    @Override
+    public PropertyCache lookUpPropertyCache(Expression site) {
+        return resolutionTable.lookUpPropertyCache(site);
+    }
+
+    @Override
+    public ScriptOutput getScriptOutput() {
+        return scriptOutput;
+    }
+
+    @Override
+    public Interpreter fork() {
+        NodeTreeInterpreter fork = new NodeTreeInterpreter(errorReporter, scriptOutput, libraryStructFactory, unaryEvaluator, binaryOperationEvaluator, executionLimits);
+        fork.resolutionTable = resolutionTable;
+        fork.callStack = getCallStack();
+        fork.globalEnvironment = globalEnvironment;
+        fork.currentEnvironment = globalEnvironment;
+        return fork;
+    }
+
+    private NodeCompiler createCompiler() {
+        return new NodeCompiler(this, resolutionTable, globalEnvironment, unaryEvaluator, binaryOperationEvaluator, getCallStack());
+    }
+
+    private CallStack getCallStack() {
+        if (callStack == null) callStack = new CallStack(executionLimits);
+        return callStack;
+    }
+}
@@ -0,0 +1,30 @@
+package interpreter.nodes;
+
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A loop whose block body cannot have its variables captured by a closure, which executes every iteration of the body
+ * in a single frame that is cleared between iterations rather than reallocated
+ */
+@RequiredArgsConstructor
+public class ReusedFrameWhileNode extends ExecutableNode {
+    private final ExecutableNode condition;
+    private final int bodyScopeSize;
+    private final ExecutableNode[] bodyExpressions;
+
+    @Override
+    public GObject execute(Environment frame) {
+        Environment bodyFrame = new Environment(frame, bodyScopeSize);
+        GObject finalEvaluation = null;
+        while (InterpreterUtils.isTruthy(condition.execute(frame))) {
+            bodyFrame.clearSlots();
+            for (ExecutableNode expression : bodyExpressions) {
+                finalEvaluation = expression.execute(bodyFrame);
+            }
+        }
+        return finalEvaluation;
+    }
+}
@@ -0,0 +1,22 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A block whose scope was elided by the resolver, which executes its expressions in the enclosing frame
+ */
+@RequiredArgsConstructor
+public class SequenceNode extends ExecutableNode {
+    private final ExecutableNode[] expressions;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject finalEvaluation = null;
+        for (ExecutableNode expression : expressions) {
+            finalEvaluation = expression.execute(frame);
+        }
+        return finalEvaluation;
+    }
+}
@@ -0,0 +1,22 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import interpreter.datatypes.GStruct;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class StructLiteralNode extends ExecutableNode {
+    private final GString[] fieldNames;
+    private final ExecutableNode[] fieldValues;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GStruct struct = GStruct.initEmptyStruct();
+        for (int i = 0; i < fieldNames.length; i ++) {
+            struct.setField(fieldNames[i], fieldValues[i].execute(frame));
+        }
+        return struct;
+    }
+}
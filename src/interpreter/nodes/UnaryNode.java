@@ -0,0 +1,19 @@
+package interpreter.nodes;
+
+import interpreter.datatypes.GObject;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+@RequiredArgsConstructor
+public class UnaryNode extends ExecutableNode {
+    private final UnaryEvaluator unaryEvaluator;
+    private final Token operator;
+    private final ExecutableNode right;
+
+    @Override
+    public GObject execute(Environment frame) {
+        return unaryEvaluator.evaluateOperation(operator, right.execute(frame));
+    }
+}
@@ -0,0 +1,21 @@
+package interpreter.nodes;
+
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GObject;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class WhileNode extends ExecutableNode {
+    private final ExecutableNode condition;
+    private final ExecutableNode body;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject finalEvaluation = null;
+        while (InterpreterUtils.isTruthy(condition.execute(frame))) {
+            finalEvaluation = body.execute(frame);
+        }
+        return finalEvaluation;
+    }
+}
@@ -2,30 +2,64 @@ package interpreter.runtime;
 
 import interpreter.datatypes.GObject;
 import interpreter.errors.RuntimeError;
-import lombok.RequiredArgsConstructor;
 import model.Token;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-@RequiredArgsConstructor
+/**
+ * A single frame of the interpreter's variable stack.
+ *
+ * The global environment is keyed by variable name, since globals are resolved dynamically at runtime (eg: between REPL
+ * lines). Every other environment is a local scope whose variables were assigned a slot by the resolver, and are stored
+ * in a fixed-size array which is indexed directly instead of hashing variable names.
+ */
 public class Environment {
     private static final String UNDEFINED_VARIABLE_ERROR_MESSAGE_TEMPLATE = "Undefined variable '%s'";
 
     private final Environment enclosingEnvironment;
-    private final Map<String, GObject> values = new HashMap<>();
+    private final Map<String, GObject> values;
+    private final GObject[] slots;
+
+    private Environment() {
+        this.enclosingEnvironment = null;
+        this.values = new HashMap<>();
+        this.slots = null;
+    }
+
+    public Environment(Environment enclosingEnvironment, int size) {
+        this.enclosingEnvironment = enclosingEnvironment;
+        this.values = null;
+        this.slots = new GObject[size];
+    }
 
     public static Environment createGlobalEnvironment() {
-        return new Environment(null);
+        return new Environment();
+    }
+
+    public Environment getEnclosingEnvironment() {
+        return enclosingEnvironment;
     }
 
     public void define(String name, GObject value) {
         values.put(name, value);
     }
 
+    public void defineAt(int slot, GObject value) {
+        slots[slot] = value;
+    }
+
+    /**
+     * Resets every slot of a local scope, so that its frame may be reused as if it were newly created
+     */
+    public void clearSlots() {
+        Arrays.fill(slots, null);
+    }
+
     public void assign(Token name, GObject value) {
         var key = name.lexeme();
-        if (values.containsKey(key)) {
+        if (values != null && values.containsKey(key)) {
             values.put(key, value);
         }
         // Try assigning in enclosing scope
@@ -40,7 +74,7 @@ public class Environment {
 
     public GObject get(Token name) {
         var key = name.lexeme();
-        if (values.containsKey(key)) {
+        if (values != null && values.containsKey(key)) {
             return values.get(key);
         }
 
@@ -49,12 +83,12 @@ public class Environment {
         else throw new RuntimeError(name, String.format(UNDEFINED_VARIABLE_ERROR_MESSAGE_TEMPLATE, key));
     }
 
-    public GObject getAt(int distance, String name) {
-        return getAncestorAtDistance(distance).values.get(name);
+    public GObject getAt(int distance, int slot) {
+        return getAncestorAtDistance(distance).slots[slot];
     }
 
-    public void assignAtAncestor(int distance, Token name, GObject value) {
-        getAncestorAtDistance(distance).values.put(name.lexeme(), value);
+    public void assignAtAncestor(int distance, int slot, GObject value) {
+        getAncestorAtDistance(distance).slots[slot] = value;
     }
 
     private Environment getAncestorAtDistance(int distance) {
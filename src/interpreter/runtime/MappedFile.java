@@ -0,0 +1,188 @@
+package interpreter.runtime;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A read-only, memory-mapped view of a file (see StdLib.File.map). Bytes are paged in by the OS as they are read, so
+ * random access into a huge file only makes the touched pages resident, and never copies the file onto the heap.
+ *
+ * A MappedByteBuffer is limited to 2GB, so the file is mapped as consecutive regions of {@link #REGION_SIZE} bytes.
+ * Lines are located by an index of the offset of every line, which is built by a single scan the first time a line is
+ * requested. Lines are split on '\n', with a trailing '\r' removed, like BufferedReader.
+ *
+ * The index stores the offset of each line within its region as an int (4 bytes per line), alongside the first line of
+ * each region. The offsets are stored in chunks of {@link #INDEX_CHUNK_SIZE} lines, so that the number of lines is not
+ * limited by the maximum length of an array.
+ */
+public class MappedFile {
+    private static final int REGION_SIZE = 1 << 30;
+    private static final int INDEX_CHUNK_SHIFT = 20;
+    private static final int INDEX_CHUNK_SIZE = 1 << INDEX_CHUNK_SHIFT;
+
+    private final MappedByteBuffer[] regions;
+    private final long size;
+    // Null until the first line is requested
+    private volatile LineIndex lineIndex;
+
+    private MappedFile(MappedByteBuffer[] regions, long size) {
+        this.regions = regions;
+        this.size = size;
+    }
+
+    public static MappedFile open(Path path) throws IOException {
+        // The mappings remain valid after the channel is closed, until they are garbage collected
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((size + REGION_SIZE - 1) / REGION_SIZE)];
+            for (int i = 0; i < regions.length; i ++) {
+                long regionStart = (long) i * REGION_SIZE;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, Math.min(REGION_SIZE, size - regionStart));
+            }
+            return new MappedFile(regions, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the offset is outside the file
+     */
+    public byte byteAt(long offset) {
+        Objects.checkIndex(offset, size);
+        return regions[(int) (offset / REGION_SIZE)].get((int) (offset % REGION_SIZE));
+    }
+
+    /**
+     * @return the bytes from the inclusive start offset to the exclusive end offset, decoded as UTF-8
+     * @throws IndexOutOfBoundsException if the offsets are out of range
+     */
+    public String decode(long start, long end) {
+        Objects.checkFromToIndex(start, end, size);
+        byte[] bytes = new byte[Math.toIntExact(end - start)];
+        int copied = 0;
+        while (copied < bytes.length) {
+            long offset = start + copied;
+            MappedByteBuffer region = regions[(int) (offset / REGION_SIZE)];
+            int regionOffset = (int) (offset % REGION_SIZE);
+            int length = Math.min(bytes.length - copied, region.limit() - regionOffset);
+            region.get(regionOffset, bytes, copied, length);
+            copied += length;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long lineCount() {
+        return getLineIndex().lineCount;
+    }
+
+    /**
+     * @return the offset of the first byte of the given line
+     * @throws IndexOutOfBoundsException if there is no such line
+     */
+    public long lineOffset(long line) {
+        LineIndex index = getLineIndex();
+        Objects.checkIndex(line, index.lineCount);
+        return index.lineStart(line);
+    }
+
+    /**
+     * @return the given line, without its line terminator
+     * @throws IndexOutOfBoundsException if there is no such line
+     */
+    public String line(long line) {
+        LineIndex index = getLineIndex();
+        Objects.checkIndex(line, index.lineCount);
+        long start = index.lineStart(line);
+        long end = line + 1 < index.lineCount ? index.lineStart(line + 1) : size;
+        if (end > start && byteAt(end - 1) == '\n') end--;
+        if (end > start && byteAt(end - 1) == '\r') end--;
+        return decode(start, end);
+    }
+
+    private LineIndex getLineIndex() {
+        LineIndex index = lineIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = lineIndex;
+                if (index == null) {
+                    index = indexLines();
+                    lineIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private LineIndex indexLines() {
+        LineIndex index = new LineIndex(regions.length);
+        if (size == 0) return index;
+
+        index.add(0);
+        for (int i = 0; i < regions.length; i ++) {
+            MappedByteBuffer region = regions[i];
+            long regionStart = (long) i * REGION_SIZE;
+            for (int j = 0; j < region.limit(); j ++) {
+                // A line starts after every newline, except a newline which ends the file
+                if (region.get(j) == '\n' && regionStart + j + 1 < size) {
+                    index.add(regionStart + j + 1);
+                }
+            }
+        }
+        index.trim();
+        return index;
+    }
+
+    /**
+     * The start offset of every line, each stored relative to the start of the region it falls in
+     */
+    private static final class LineIndex {
+        // The index of the first line which starts in each region, or of the next line to start if none do
+        private final long[] firstLineOfRegion;
+        private int[][] chunks = new int[1][];
+        private long lineCount;
+        // The number of regions whose first line is known
+        private int indexedRegions;
+
+        private LineIndex(int regionCount) {
+            this.firstLineOfRegion = new long[regionCount];
+        }
+
+        private void add(long lineStart) {
+            int region = (int) (lineStart / REGION_SIZE);
+            while (indexedRegions <= region) firstLineOfRegion[indexedRegions++] = lineCount;
+
+            int chunk = (int) (lineCount >>> INDEX_CHUNK_SHIFT);
+            if (chunk == chunks.length) chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            if (chunks[chunk] == null) chunks[chunk] = new int[INDEX_CHUNK_SIZE];
+            chunks[chunk][(int) (lineCount & (INDEX_CHUNK_SIZE - 1))] = (int) (lineStart % REGION_SIZE);
+            lineCount++;
+        }
+
+        /**
+         * Releases the unused space of the final chunk, and records the regions in which no line starts
+         */
+        private void trim() {
+            while (indexedRegions < firstLineOfRegion.length) firstLineOfRegion[indexedRegions++] = lineCount;
+            int lastChunk = (int) ((lineCount - 1) >>> INDEX_CHUNK_SHIFT);
+            chunks = Arrays.copyOf(chunks, lastChunk + 1);
+            chunks[lastChunk] = Arrays.copyOf(chunks[lastChunk], (int) (lineCount - ((long) lastChunk << INDEX_CHUNK_SHIFT)));
+        }
+
+        private long lineStart(long line) {
+            // The line falls in the last region whose first line is not after it. Files span few regions.
+            int region = firstLineOfRegion.length - 1;
+            while (firstLineOfRegion[region] > line) region--;
+            int offset = chunks[(int) (line >>> INDEX_CHUNK_SHIFT)][(int) (line & (INDEX_CHUNK_SIZE - 1))];
+            return (long) region * REGION_SIZE + offset;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package interpreter.runtime;
+
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import interpreter.datatypes.GStruct;
+import interpreter.datatypes.StructShape;
+
+import java.util.Arrays;
+
+/**
+ * A polymorphic inline cache for a single field access site with a literal field name (eg: `node.next`), which
+ * remembers the slot of the field for up to {@link #MAX_ENTRIES} struct shapes. A hit reads or writes the struct's
+ * value array directly, without hashing the field name.
+ *
+ * Like {@link interpreter.lambda.InlineCache}, entries are immutable and published by replacing the entry array, so
+ * that a site may be shared by interpreters on several threads.
+ */
+public class PropertyCache {
+    public static final int MAX_ENTRIES = 4;
+
+    private final GString fieldName;
+    private volatile Entry[] entries = new Entry[0];
+
+    private record Entry(StructShape shape, int slot) {}
+
+    public PropertyCache(GString fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public GString getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * @return the value of this site's field in the given struct, or nil if the struct has no such field
+     */
+    public GObject getField(GStruct struct) {
+        int slot = lookUpSlot(struct.getShape());
+        if (slot != StructShape.MISSING_FIELD) return struct.getAtSlot(slot);
+        return struct.getShape() != null ? GNil.INSTANCE : struct.value().getOrDefault(fieldName, GNil.INSTANCE);
+    }
+
+    /**
+     * Sets this site's field in the given struct, adding the field if the struct does not have it yet
+     */
+    public GStruct setField(GStruct struct, GObject value) {
+        int slot = lookUpSlot(struct.getShape());
+        if (slot != StructShape.MISSING_FIELD) {
+            struct.setAtSlot(slot, value);
+            return struct;
+        }
+        return struct.setField(fieldName, value);
+    }
+
+    private int lookUpSlot(StructShape shape) {
+        // Structs in dictionary mode have no shape, and are never cached
+        if (shape == null) return StructShape.MISSING_FIELD;
+
+        Entry[] currentEntries = entries;
+        for (Entry entry : currentEntries) {
+            if (entry.shape() == shape) return entry.slot();
+        }
+
+        int slot = shape.lookUpSlot(fieldName);
+        if (slot != StructShape.MISSING_FIELD && currentEntries.length < MAX_ENTRIES) {
+            Entry[] newEntries = Arrays.copyOf(currentEntries, currentEntries.length + 1);
+            newEntries[currentEntries.length] = new Entry(shape, slot);
+            entries = newEntries;
+        }
+        return slot;
+    }
+}
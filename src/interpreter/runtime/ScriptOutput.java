@@ -0,0 +1,134 @@
+package interpreter.runtime;
+
+import config.ExecutionScoped;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The output of a single script execution: its console output (see StdLib.print), and the files it has opened (see
+ * StdLib.File.writer and StdLib.File.streamLines). Output is buffered, so that a script printing millions of lines makes
+ * one write to the console stream per buffer rather than one synchronized, flushing write per line.
+ *
+ * Buffered output is flushed whenever a program finishes or fails, and before any error is reported, so that output
+ * and errors appear in the order they were produced. Files which the script leaves open (eg: a stream which is only
+ * partly consumed) are closed once its execution ends (for a REPL session, once the session ends), so that a
+ * long-lived executor never leaks their file descriptors.
+ *
+ * Forked interpreters share the output of their execution, whose console buffer is guarded by a lock, so lines printed
+ * concurrently by one execution are never interleaved. Other executions may print to the same console stream at the
+ * same time, so the buffer only ever holds whole lines, and is written out by a single write to the console stream,
+ * which it holds the lock of for the duration of the write. Lines printed by concurrent executions may therefore
+ * alternate in blocks, but are never split.
+ */
+@ExecutionScoped
+public class ScriptOutput {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final PrintStream console = System.out;
+    // Only ever holds whole lines, each ended by a line separator
+    private final StringBuilder consoleBuffer = new StringBuilder();
+    private final Set<Closeable> openFiles = ConcurrentHashMap.newKeySet();
+
+    public void printLine(String line) {
+        synchronized (consoleBuffer) {
+            consoleBuffer.append(line).append(System.lineSeparator());
+            if (consoleBuffer.length() >= BUFFER_SIZE) flushConsole();
+        }
+    }
+
+    /**
+     * Opens a file for writing, replacing its contents, which remains open until it is passed to {@link #closeFile}, or
+     * until {@link #closeAll} is called
+     */
+    public Writer openFile(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        Writer file = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+        openFiles.add(file);
+        return file;
+    }
+
+    /**
+     * Opens a file for reading, which remains open until it is passed to {@link #closeFile}, or until
+     * {@link #closeAll} is called
+     */
+    public BufferedReader openReader(Path path) throws IOException {
+        BufferedReader file = Files.newBufferedReader(path);
+        openFiles.add(file);
+        return file;
+    }
+
+    /**
+     * @return true if the given file was opened by this execution, and has not been closed since
+     */
+    public boolean isOpen(Closeable file) {
+        return openFiles.contains(file);
+    }
+
+    public void closeFile(Closeable file) throws IOException {
+        if (openFiles.remove(file)) file.close();
+    }
+
+    /**
+     * Writes all buffered output to the console and to every open file
+     */
+    public void flush() {
+        flushConsole();
+        try {
+            for (Closeable file : openFiles) {
+                if (file instanceof Flushable writer) writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes all buffered console output, and closes every file which is still open, which writes out their buffered
+     * output. Every file is closed even if closing another file fails.
+     */
+    public void closeAll() {
+        flushConsole();
+        IOException firstError = null;
+        for (Closeable file : openFiles) {
+            try {
+                closeFile(file);
+            } catch (IOException e) {
+                if (firstError == null) firstError = e;
+            }
+        }
+        if (firstError != null) throw new UncheckedIOException(firstError);
+    }
+
+    /**
+     * Writes the buffered lines to the console stream in a single write, so that they are not interleaved with the
+     * output of other executions
+     */
+    private void flushConsole() {
+        synchronized (consoleBuffer) {
+            if (consoleBuffer.isEmpty()) return;
+            byte[] lines = consoleBuffer.toString().getBytes(console.charset());
+            consoleBuffer.setLength(0);
+            synchronized (console) {
+                console.write(lines, 0, lines.length);
+                console.flush();
+            }
+        }
+    }
+}
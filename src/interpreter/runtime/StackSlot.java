@@ -0,0 +1,7 @@
+package interpreter.runtime;
+
+/**
+ * The resolved location of a local variable: the number of environments to walk up from the current scope, and the
+ * slot index of the variable within that environment.
+ */
+public record StackSlot(int depth, int slot) {}
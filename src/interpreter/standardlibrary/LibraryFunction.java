@@ -1,7 +1,9 @@
 package interpreter.standardlibrary;
 
 import interpreter.Interpreter;
+import interpreter.datatypes.GLambda;
 import interpreter.datatypes.GObject;
+import interpreter.lambda.Invokable;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -10,4 +12,18 @@ public record LibraryFunction(
         String name,
         int arity,
         BiFunction<Interpreter, List<GObject>, GObject> function
-) {}
+) {
+    public GLambda toGLambda() {
+        return new GLambda(new Invokable() {
+            @Override
+            public int arity() {
+                return LibraryFunction.this.arity;
+            }
+
+            @Override
+            public GObject call(Interpreter interpreter, List<GObject> arguments) {
+                return function.apply(interpreter, arguments);
+            }
+        });
+    }
+}
@@ -3,10 +3,9 @@ package interpreter.standardlibrary;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import error.Result;
-import interpreter.Interpreter;
 import interpreter.datatypes.*;
-import interpreter.lambda.Invokable;
 import lombok.RequiredArgsConstructor;
+import model.SymbolTable;
 
 import java.util.List;
 import java.util.Objects;
@@ -29,11 +28,11 @@ public class LibraryStructFactory {
 
     private void addLibraryLambda(GStruct library, LibraryFunction libraryFunction, List<String> path) {
         if (path.isEmpty()) {
-            GObject lambdaName = new GString(libraryFunction.name());
-            GObject lambdaFunction = libraryFunctionToGLambda(libraryFunction);
-            library.setAtIndex(lambdaName, lambdaFunction);
+            GString lambdaName = SymbolTable.intern(libraryFunction.name());
+            GObject lambdaFunction = libraryFunction.toGLambda();
+            library.setField(lambdaName, lambdaFunction);
         } else {
-            GObject subLibraryName = new GString(path.get(0));
+            GString subLibraryName = SymbolTable.intern(path.get(0));
             Result<GObject, String> subLibraryLookupResult = library.getAtIndex(subLibraryName);
 
             GStruct subLibrary;
@@ -42,24 +41,10 @@ public class LibraryStructFactory {
                 subLibrary = (GStruct) successfulLookup.value();
             } else {
                 subLibrary = GStruct.initEmptyStruct();
-                library.setAtIndex(subLibraryName, subLibrary);
+                library.setField(subLibraryName, subLibrary);
             }
 
             addLibraryLambda(subLibrary, libraryFunction, path.subList(1, path.size()));
         }
     }
-
-    private GLambda libraryFunctionToGLambda(LibraryFunction libraryFunction) {
-        return new GLambda(new Invokable() {
-            @Override
-            public int arity() {
-                return libraryFunction.arity();
-            }
-
-            @Override
-            public GObject call(Interpreter interpreter, List<GObject> arguments) {
-                return libraryFunction.function().apply(interpreter, arguments);
-            }
-        });
-    }
 }
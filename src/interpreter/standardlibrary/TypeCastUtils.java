@@ -62,6 +62,14 @@ public class TypeCastUtils {
         return struct;
     }
 
+    public static GFuture toGFuture(List<GObject> arguments, int index, String lambdaName) {
+        if (!(arguments.get(index) instanceof GFuture future)) {
+            String errorMessage = generateErrorMessageForWrongLambdaArgumentType(index, lambdaName, GFuture.TYPE_NAME);
+            throw new InvocationExecutionError(errorMessage);
+        }
+        return future;
+    }
+
     private static String generateErrorMessageForWrongLambdaArgumentType(int index, String lambdaName, String expectedType) {
         return String.format("Argument at position %d in call to lambda '%s' must be of type %s",
                 index, lambdaName, expectedType);
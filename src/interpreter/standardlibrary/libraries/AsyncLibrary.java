@@ -0,0 +1,148 @@
+package interpreter.standardlibrary.libraries;
+
+import com.google.inject.Singleton;
+import interpreter.Interpreter;
+import interpreter.datatypes.GFuture;
+import interpreter.datatypes.GList;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.lambda.InvocationExecutionError;
+import interpreter.standardlibrary.Library;
+import interpreter.standardlibrary.LibraryFunction;
+import interpreter.standardlibrary.TypeCastUtils;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs lambdas as tasks on virtual threads, so that a script can overlap independent work (eg: reading several files)
+ * and start thousands of tasks without an OS thread for each. Every task invokes its lambda with its own fork of the
+ * spawning interpreter, so tasks run concurrently with each other and with the script, and should not mutate state
+ * shared with them. Blocking in await, all or any only parks the waiting virtual thread.
+ *
+ * Tasks which are never awaited may not finish before the script exits, and their errors are discarded.
+ */
+@Singleton
+@NoArgsConstructor
+public class AsyncLibrary implements Library {
+    private final ExecutorService taskExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Override
+    public List<String> getLibraryPath() {
+        return Collections.singletonList("Async");
+    }
+
+    @Override
+    public List<LibraryFunction> getFunctions() {
+        return Arrays.asList(spawn(), await(), all(), any());
+    }
+
+    private LibraryFunction spawn() {
+        final String lambdaName = "spawn";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GLambda task = TypeCastUtils.toGLambda(args, 0, lambdaName);
+            if (task.value().arity() != 0) {
+                throw new InvocationExecutionError("Lambda '%s' expects a lambda with no parameters, but got %s"
+                        .formatted(lambdaName, task.stringify()));
+            }
+
+            Interpreter taskInterpreter = interpreter.fork();
+            return new GFuture(CompletableFuture.supplyAsync(
+                    () -> task.value().call(taskInterpreter, Collections.emptyList()),
+                    taskExecutor));
+        });
+    }
+
+    private LibraryFunction await() {
+        final String lambdaName = "await";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GFuture future = TypeCastUtils.toGFuture(args, 0, lambdaName);
+            return join(future.value());
+        });
+    }
+
+    /**
+     * Awaits every future in a list, in order, so that the error of the earliest failing task is the one rethrown
+     */
+    private LibraryFunction all() {
+        final String lambdaName = "all";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            List<CompletableFuture<GObject>> futures = toFutures(args, lambdaName);
+
+            List<GObject> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<GObject> future : futures) {
+                results.add(join(future));
+            }
+            return new GList(results);
+        });
+    }
+
+    /**
+     * Awaits the first future in a list to succeed. If every task fails, the error of the earliest one is rethrown.
+     */
+    private LibraryFunction any() {
+        final String lambdaName = "any";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            List<CompletableFuture<GObject>> futures = toFutures(args, lambdaName);
+            if (futures.isEmpty()) {
+                throw new InvocationExecutionError("Lambda '%s' expects at least one future".formatted(lambdaName));
+            }
+
+            CompletableFuture<GObject> firstSuccess = new CompletableFuture<>();
+            for (CompletableFuture<GObject> future : futures) {
+                future.thenAccept(firstSuccess::complete);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+                // Only reached without a success if every task failed, as complete is a no-op once a task succeeds
+                for (CompletableFuture<GObject> future : futures) {
+                    if (!future.isCompletedExceptionally()) {
+                        firstSuccess.complete(future.join());
+                        return;
+                    }
+                }
+                firstSuccess.completeExceptionally(futures.getFirst().exceptionNow());
+            });
+            return join(firstSuccess);
+        });
+    }
+
+    private static List<CompletableFuture<GObject>> toFutures(List<GObject> args, String lambdaName) {
+        GList list = TypeCastUtils.toGList(args, 0, lambdaName);
+        List<CompletableFuture<GObject>> futures = new ArrayList<>(list.getSize());
+        for (GObject element : list.value()) {
+            if (!(element instanceof GFuture future)) {
+                // A variable declared without an initializer holds null, which scripts observe as nil
+                String elementDescription = element != null ? element.stringify() : GNil.INSTANCE.stringify();
+                throw new InvocationExecutionError("Lambda '%s' expects a list of futures, but got %s"
+                        .formatted(lambdaName, elementDescription));
+            }
+            futures.add(future.value());
+        }
+        return futures;
+    }
+
+    /**
+     * Blocks until a task completes, and rethrows the task's own error if it failed, so that it is reported from the
+     * line which raised it
+     */
+    private static GObject join(CompletableFuture<GObject> future) {
+        try {
+            return future.join();
+        } catch (CompletionException error) {
+            if (error.getCause() instanceof RuntimeException cause) throw cause;
+            throw error;
+        }
+    }
+}
@@ -1,21 +1,32 @@
 package interpreter.standardlibrary.libraries;
 
 import com.google.inject.Singleton;
+import interpreter.datatypes.GInteger;
 import interpreter.datatypes.GList;
+import interpreter.datatypes.GNil;
 import interpreter.datatypes.GObject;
 import interpreter.datatypes.GString;
+import interpreter.datatypes.GStruct;
+import interpreter.datatypes.LazySequence;
 import interpreter.lambda.InvocationExecutionError;
+import interpreter.runtime.MappedFile;
+import interpreter.runtime.ScriptOutput;
 import interpreter.standardlibrary.Library;
 import interpreter.standardlibrary.LibraryFunction;
 import interpreter.standardlibrary.TypeCastUtils;
 import lombok.NoArgsConstructor;
+import model.SymbolTable;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 @Singleton
@@ -28,7 +39,7 @@ public class FileLibrary implements Library {
 
     @Override
     public List<LibraryFunction> getFunctions() {
-        return Arrays.asList(readLines());
+        return Arrays.asList(readLines(), streamLines(), streamLineChunks(), map(), writer());
     }
 
     private LibraryFunction readLines() {
@@ -47,4 +58,225 @@ public class FileLibrary implements Library {
             }
         });
     }
+
+    /**
+     * Returns a lazy list of a file's lines, which are read as the list is consumed, so that a single pass over the
+     * list (eg: by fold) only holds one line in memory at a time. Every pass reads the file again, unless the list is
+     * computed by indexing, measuring or printing it, which stores every line.
+     */
+    private LibraryFunction streamLines() {
+        final String lambdaName = "streamLines";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GString fileName = TypeCastUtils.toGString(args, 0, lambdaName);
+            Path path = toReadablePath(fileName, lambdaName);
+            return GList.lazy(lineSequence(path, interpreter.getScriptOutput(), lambdaName));
+        });
+    }
+
+    /**
+     * Returns a lazy list of lists of up to the given number of a file's lines, which are read as the list is consumed
+     */
+    private LibraryFunction streamLineChunks() {
+        final String lambdaName = "streamLineChunks";
+        final int arity = 2;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GString fileName = TypeCastUtils.toGString(args, 0, lambdaName);
+            GInteger chunkSize = TypeCastUtils.toGInteger(args, 1, lambdaName);
+            if (chunkSize.longValue() < 1) {
+                throw new InvocationExecutionError("Lambda '%s' chunk size must be positive".formatted(lambdaName));
+            }
+
+            Path path = toReadablePath(fileName, lambdaName);
+            LazySequence lines = lineSequence(path, interpreter.getScriptOutput(), lambdaName);
+            return GList.lazy(LazySequence.chunk(lines, chunkSize.intValue()));
+        });
+    }
+
+    /**
+     * Memory-maps a file, and returns a struct of lambdas which read it in place (see MappedFile):
+     *   → size(): the file's size in bytes
+     *   → byteAt(offset): the byte at an offset, as an integer
+     *   → read(start, end): the bytes from the inclusive start to the exclusive end offset, decoded as UTF-8
+     *   → lineCount(): the number of lines
+     *   → line(index): a line, without its line terminator
+     *   → lineOffset(index): the byte offset at which a line starts
+     * The line lambdas index the file's lines the first time any of them is called.
+     */
+    private LibraryFunction map() {
+        final String lambdaName = "map";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GString fileName = TypeCastUtils.toGString(args, 0, lambdaName);
+
+            MappedFile file;
+            try {
+                file = MappedFile.open(Paths.get(fileName.value()));
+            } catch (IOException e) {
+                throw new InvocationExecutionError("Lambda '%s' encountered an IO error while mapping file: %s"
+                        .formatted(lambdaName, e.getMessage()));
+            }
+
+            GStruct mappedFile = GStruct.initEmptyStruct();
+            List<LibraryFunction> mappedFileFunctions = Arrays.asList(
+                    new LibraryFunction("size", 0, (ignored, mappedArgs) -> GInteger.of(file.size())),
+                    new LibraryFunction("byteAt", 1, (ignored, mappedArgs) -> {
+                        GInteger offset = TypeCastUtils.toGInteger(mappedArgs, 0, "byteAt");
+                        return readMappedFile("byteAt", () -> GInteger.of(file.byteAt(offset.longValue())));
+                    }),
+                    new LibraryFunction("read", 2, (ignored, mappedArgs) -> {
+                        GInteger start = TypeCastUtils.toGInteger(mappedArgs, 0, "read");
+                        GInteger end = TypeCastUtils.toGInteger(mappedArgs, 1, "read");
+                        return readMappedFile("read", () -> new GString(file.decode(start.longValue(), end.longValue())));
+                    }),
+                    new LibraryFunction("lineCount", 0, (ignored, mappedArgs) -> GInteger.of(file.lineCount())),
+                    new LibraryFunction("line", 1, (ignored, mappedArgs) -> {
+                        GInteger index = TypeCastUtils.toGInteger(mappedArgs, 0, "line");
+                        return readMappedFile("line", () -> new GString(file.line(index.longValue())));
+                    }),
+                    new LibraryFunction("lineOffset", 1, (ignored, mappedArgs) -> {
+                        GInteger index = TypeCastUtils.toGInteger(mappedArgs, 0, "lineOffset");
+                        return readMappedFile("lineOffset", () -> GInteger.of(file.lineOffset(index.longValue())));
+                    }));
+            mappedFileFunctions.forEach(function ->
+                    mappedFile.setField(SymbolTable.intern(function.name()), function.toGLambda()));
+            return mappedFile;
+        });
+    }
+
+    private static GObject readMappedFile(String lambdaName, Supplier<GObject> read) {
+        try {
+            return read.get();
+        } catch (IndexOutOfBoundsException | ArithmeticException e) {
+            throw new InvocationExecutionError("Lambda '%s' read out of the bounds of the mapped file: %s"
+                    .formatted(lambdaName, e.getMessage()));
+        }
+    }
+
+    /**
+     * Opens a file for buffered writing, replacing its contents, and returns a struct of lambdas which write to it:
+     *   → write(value): writes a value as it would be printed
+     *   → writeLine(value): writes a value followed by a line separator
+     *   → close(): writes any buffered output, then closes the file
+     * A writer which is still open when the script's execution ends is closed, so an unclosed writer loses no output.
+     */
+    private LibraryFunction writer() {
+        final String lambdaName = "writer";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GString fileName = TypeCastUtils.toGString(args, 0, lambdaName);
+            ScriptOutput scriptOutput = interpreter.getScriptOutput();
+
+            Writer file;
+            try {
+                file = scriptOutput.openFile(Paths.get(fileName.value()));
+            } catch (IOException e) {
+                throw new InvocationExecutionError("Lambda '%s' encountered an IO error while opening file: %s"
+                        .formatted(lambdaName, e.getMessage()));
+            }
+
+            GStruct writer = GStruct.initEmptyStruct();
+            List<LibraryFunction> writerFunctions = Arrays.asList(
+                    new LibraryFunction("write", 1, (ignored, writerArgs) ->
+                            writeToFile("write", scriptOutput, file, writerArgs.get(0), writerArgs.get(0).stringify())),
+                    new LibraryFunction("writeLine", 1, (ignored, writerArgs) ->
+                            writeToFile("writeLine", scriptOutput, file, writerArgs.get(0),
+                                    writerArgs.get(0).stringify() + System.lineSeparator())),
+                    new LibraryFunction("close", 0, (ignored, writerArgs) -> {
+                        try {
+                            scriptOutput.closeFile(file);
+                        } catch (IOException e) {
+                            throw new InvocationExecutionError("Lambda 'close' encountered an IO error while writing file: %s"
+                                    .formatted(e.getMessage()));
+                        }
+                        return GNil.INSTANCE;
+                    }));
+            writerFunctions.forEach(function ->
+                    writer.setField(SymbolTable.intern(function.name()), function.toGLambda()));
+            return writer;
+        });
+    }
+
+    private static GObject writeToFile(String lambdaName, ScriptOutput scriptOutput, Writer file, GObject value, String text) {
+        if (!scriptOutput.isOpen(file)) {
+            throw new InvocationExecutionError("Lambda '%s' cannot write to a closed file".formatted(lambdaName));
+        }
+        try {
+            file.write(text);
+        } catch (IOException e) {
+            // The file may have been closed by another thread since it was checked
+            if (!scriptOutput.isOpen(file)) {
+                throw new InvocationExecutionError("Lambda '%s' cannot write to a closed file".formatted(lambdaName));
+            }
+            throw new InvocationExecutionError("Lambda '%s' encountered an IO error while writing file: %s"
+                    .formatted(lambdaName, e.getMessage()));
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a file can be read when a stream of it is created, so that a missing file is reported by the call
+     * which names it, rather than by whichever call first consumes the stream
+     */
+    private static Path toReadablePath(GString fileName, String lambdaName) {
+        Path path = Paths.get(fileName.value());
+        if (!Files.isReadable(path)) {
+            throw new InvocationExecutionError("Lambda '%s' encountered an IO error while reading file: %s"
+                    .formatted(lambdaName, fileName.value()));
+        }
+        return path;
+    }
+
+    private static LazySequence lineSequence(Path path, ScriptOutput scriptOutput, String lambdaName) {
+        return () -> new LineCursor(path, scriptOutput, lambdaName);
+    }
+
+    /**
+     * Reads a file one line at a time, opening it when the first line is requested and closing it after the last. The
+     * file is opened through the execution's ScriptOutput, so a cursor which is abandoned early (eg: by take) has its
+     * file closed when the script finishes or fails.
+     */
+    private static class LineCursor implements LazySequence.Cursor {
+        private final Path path;
+        private final ScriptOutput scriptOutput;
+        private final String lambdaName;
+        private BufferedReader reader;
+        private boolean exhausted = false;
+
+        private LineCursor(Path path, ScriptOutput scriptOutput, String lambdaName) {
+            this.path = path;
+            this.scriptOutput = scriptOutput;
+            this.lambdaName = lambdaName;
+        }
+
+        @Override
+        public GObject next() {
+            if (exhausted) return LazySequence.END;
+            try {
+                if (reader == null) reader = scriptOutput.openReader(path);
+
+                String line = reader.readLine();
+                if (line == null) {
+                    exhausted = true;
+                    scriptOutput.closeFile(reader);
+                    return LazySequence.END;
+                }
+                return new GString(line);
+            } catch (IOException e) {
+                exhausted = true;
+                close();
+                throw new InvocationExecutionError("Lambda '%s' encountered an IO error while reading file: %s"
+                        .formatted(lambdaName, e.getMessage()));
+            }
+        }
+
+        private void close() {
+            if (reader == null) return;
+            try {
+                scriptOutput.closeFile(reader);
+            } catch (IOException ignored) {
+                // The original error is the one worth reporting
+            }
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package interpreter.standardlibrary.libraries;
+
+import com.google.inject.Singleton;
+import error.Result;
+import interpreter.datatypes.GInteger;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import interpreter.datatypes.GStruct;
+import interpreter.lambda.InvocationExecutionError;
+import interpreter.lambda.memoization.EvictionPolicy;
+import interpreter.lambda.memoization.MemoizedFunction;
+import interpreter.standardlibrary.Library;
+import interpreter.standardlibrary.LibraryFunction;
+import interpreter.standardlibrary.TypeCastUtils;
+import lombok.NoArgsConstructor;
+import model.SymbolTable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Singleton
+@NoArgsConstructor
+public class FunctionLibrary implements Library {
+    private static final GString MAX_SIZE_OPTION = SymbolTable.intern("maxSize");
+    private static final GString POLICY_OPTION = SymbolTable.intern("policy");
+
+    @Override
+    public List<String> getLibraryPath() {
+        return Collections.singletonList("Function");
+    }
+
+    @Override
+    public List<LibraryFunction> getFunctions() {
+        return Arrays.asList(memoize(), stats());
+    }
+
+    /**
+     * Wraps a lambda with a cache of its results, configured by an options struct:
+     *   → maxSize: the maximum number of cached results. Required unless the policy is 'unbounded'.
+     *   → policy: 'lru', 'lfu' or 'unbounded'. Defaults to 'lru' if a maxSize is given, and 'unbounded' otherwise.
+     */
+    private LibraryFunction memoize() {
+        final String lambdaName = "memoize";
+        final int arity = 2;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GLambda function = TypeCastUtils.toGLambda(args, 0, lambdaName);
+            GStruct options = TypeCastUtils.toGStruct(args, 1, lambdaName);
+
+            GObject maxSize = lookUpOption(options, MAX_SIZE_OPTION);
+            GObject policyName = lookUpOption(options, POLICY_OPTION);
+
+            EvictionPolicy policy;
+            if (policyName == GNil.INSTANCE) {
+                policy = maxSize == GNil.INSTANCE ? EvictionPolicy.UNBOUNDED : EvictionPolicy.LRU;
+            } else if (policyName instanceof GString name) {
+                policy = EvictionPolicy.fromName(name.value()).orElseThrow(() -> new InvocationExecutionError(
+                        "Lambda '%s' option 'policy' must be one of 'lru', 'lfu' or 'unbounded', but got '%s'"
+                                .formatted(lambdaName, name.value())));
+            } else {
+                throw new InvocationExecutionError("Lambda '%s' option 'policy' must be a string".formatted(lambdaName));
+            }
+
+            int cacheSize = 0;
+            if (policy != EvictionPolicy.UNBOUNDED) {
+                if (!(maxSize instanceof GInteger size) || size.longValue() < 1) {
+                    throw new InvocationExecutionError("Lambda '%s' option 'maxSize' must be a positive integer"
+                            .formatted(lambdaName));
+                }
+                // No cache could hold more results than this, so a larger maxSize is equivalent to it
+                cacheSize = (int) Math.min(size.longValue(), Integer.MAX_VALUE);
+            }
+
+            return new GLambda(new MemoizedFunction(function.value(), policy.createCache(cacheSize)));
+        });
+    }
+
+    private LibraryFunction stats() {
+        final String lambdaName = "stats";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GLambda function = TypeCastUtils.toGLambda(args, 0, lambdaName);
+            if (!(function.value() instanceof MemoizedFunction memoizedFunction)) {
+                throw new InvocationExecutionError("Lambda '%s' expects a lambda returned by memoize".formatted(lambdaName));
+            }
+
+            MemoizedFunction.Stats stats = memoizedFunction.getStats();
+            GStruct statsStruct = GStruct.initEmptyStruct();
+            statsStruct.setField(SymbolTable.intern("hits"), GInteger.of(stats.hits()));
+            statsStruct.setField(SymbolTable.intern("misses"), GInteger.of(stats.misses()));
+            statsStruct.setField(SymbolTable.intern("evictions"), GInteger.of(stats.evictions()));
+            statsStruct.setField(SymbolTable.intern("size"), GInteger.of(stats.size()));
+            return statsStruct;
+        });
+    }
+
+    private static GObject lookUpOption(GStruct options, GString optionName) {
+        return options.getAtIndex(optionName) instanceof Result.Success<GObject, String> success
+                ? success.value()
+                : GNil.INSTANCE;
+    }
+}
@@ -1,6 +1,8 @@
 package interpreter.standardlibrary.libraries;
 
 import com.google.inject.Singleton;
+import error.Result;
+import interpreter.Interpreter;
 import interpreter.InterpreterUtils;
 import interpreter.datatypes.*;
 import interpreter.standardlibrary.Library;
@@ -12,10 +14,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 @Singleton
 @NoArgsConstructor
 public class ListLibrary implements Library {
+    // Lists are only split into chunks of at least this many elements, since smaller chunks cost more to schedule and
+    // to fork an interpreter for than their callbacks save
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 64;
+    // Splitting into a few chunks per worker thread balances the load when callbacks take uneven time
+    private static final int PARALLEL_CHUNKS_PER_WORKER = 4;
+
     @Override
     public List<String> getLibraryPath() {
         return Collections.singletonList("List");
@@ -25,7 +35,8 @@ public class ListLibrary implements Library {
     public List<LibraryFunction> getFunctions() {
         return Arrays.asList(
                 size(), append(), sublist(), reversed(), zip(),
-                take(), filter(), map(), fold(), accumulate());
+                take(), filter(), map(), fold(), accumulate(), lazy(),
+                parMap(), parFilter(), parReduce());
     }
 
     private LibraryFunction size() {
@@ -33,7 +44,7 @@ public class ListLibrary implements Library {
         final int arity = 1;
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GList list = TypeCastUtils.toGList(args, 0, lambdaName);
-            return new GInteger(list.getSize());
+            return GInteger.of(list.getSize());
         });
     }
 
@@ -54,8 +65,7 @@ public class ListLibrary implements Library {
             GInteger start = TypeCastUtils.toGInteger(args, 1, lambdaName);
             GInteger end = TypeCastUtils.toGInteger(args, 2, lambdaName);
 
-            List<GObject> sublist = new ArrayList<>(list.value().subList(start.value(), end.value()));
-            return new GList(sublist);
+            return list.sublist(start.intValue(), end.intValue());
         });
     }
 
@@ -76,16 +86,8 @@ public class ListLibrary implements Library {
             GList listA = TypeCastUtils.toGList(args, 0, lambdaName);
             GList listB = TypeCastUtils.toGList(args, 1, lambdaName);
 
-            int maxLength = Math.max(listA.getSize(), listB.getSize());
-            List<GObject> zippedList = new ArrayList<>();
-            for (int i = 0; i < maxLength; i ++) {
-                List<GObject> zippedPair = new ArrayList<>();
-                zippedPair.add(i < listA.getSize() ? listA.value().get(i) : GNil.INSTANCE);
-                zippedPair.add(i < listB.getSize() ? listB.value().get(i) : GNil.INSTANCE);
-                zippedList.add(new GList(zippedPair));
-            }
-
-            return new GList(zippedList);
+            LazySequence zipped = LazySequence.zip(listA.asSequence(), listB.asSequence());
+            return toResultList(listA.isLazy() || listB.isLazy(), zipped);
         });
     }
 
@@ -96,8 +98,9 @@ public class ListLibrary implements Library {
             GList list = TypeCastUtils.toGList(args, 0, lambdaName);
             GInteger numElements = TypeCastUtils.toGInteger(args, 1, lambdaName);
 
-            List<GObject> sublist = new ArrayList<>(list.value().subList(0, numElements.value()));
-            return new GList(sublist);
+            // A lazy list's size is unknown until it is computed, so take yields at most (rather than exactly) n elements
+            if (list.isLazy()) return GList.lazy(LazySequence.take(list.asSequence(), numElements.intValue()));
+            return list.sublist(0, numElements.intValue());
         });
     }
 
@@ -108,15 +111,11 @@ public class ListLibrary implements Library {
             GList list = TypeCastUtils.toGList(args, 0, lambdaName);
             GLambda predicate = TypeCastUtils.toGLambda(args, 1, lambdaName);
 
-            // Implement using a for-loop instead of using Stream APIs for performance improvement
-            List<GObject> filteredList = new ArrayList<>();
-            for (GObject element : list.value()) {
-                if (InterpreterUtils.isTruthy(predicate.value().call(interpreter, Collections.singletonList(element)))) {
-                    filteredList.add(element);
-                }
-            }
-
-            return new GList(filteredList);
+            LazySequence filtered = LazySequence.filter(
+                    list.asSequence(),
+                    element -> InterpreterUtils.isTruthy(
+                            predicate.value().call(interpreter, Collections.singletonList(element))));
+            return toResultList(list.isLazy(), filtered);
         });
     }
 
@@ -127,13 +126,10 @@ public class ListLibrary implements Library {
             GList list = TypeCastUtils.toGList(args, 0, lambdaName);
             GLambda function = TypeCastUtils.toGLambda(args, 1, lambdaName);
 
-            // Implement using a for-loop instead of using Stream APIs for performance improvement
-            List<GObject> mappedList = new ArrayList<>();
-            for (GObject element : list.value()) {
-                mappedList.add(function.value().call(interpreter, Collections.singletonList(element)));
-            }
-
-            return new GList(mappedList);
+            LazySequence mapped = LazySequence.map(
+                    list.asSequence(),
+                    element -> function.value().call(interpreter, Collections.singletonList(element)));
+            return toResultList(list.isLazy(), mapped);
         });
     }
 
@@ -145,11 +141,11 @@ public class ListLibrary implements Library {
             GObject accumulator = args.get(1);
             GLambda function = TypeCastUtils.toGLambda(args, 2, lambdaName);
 
-            if (!list.value().isEmpty()) {
-                for (GObject element : list.value()) {
-                    List<GObject> accumulatorFunctionArguments = Arrays.asList(accumulator, element);
-                    accumulator = function.value().call(interpreter, accumulatorFunctionArguments);
-                }
+            // Consume the list's sequence directly, so that folding a lazy list never stores its elements
+            LazySequence.Cursor cursor = list.asSequence().open();
+            for (GObject element = cursor.next(); element != LazySequence.END; element = cursor.next()) {
+                List<GObject> accumulatorFunctionArguments = Arrays.asList(accumulator, element);
+                accumulator = function.value().call(interpreter, accumulatorFunctionArguments);
             }
             return accumulator;
         });
@@ -163,15 +159,161 @@ public class ListLibrary implements Library {
             GObject accumulator = args.get(1);
             GLambda function = TypeCastUtils.toGLambda(args, 2, lambdaName);
 
-            // Implement using a for-loop instead of using Stream APIs for performance improvement
-            List<GObject> mappedList = new ArrayList<>();
-            for (GObject element : list.value()) {
-                List<GObject> accumulatorFunctionArguments = Arrays.asList(accumulator, element);
-                accumulator = function.value().call(interpreter, accumulatorFunctionArguments);
-                mappedList.add(accumulator);
-            }
+            LazySequence accumulated = LazySequence.accumulate(
+                    list.asSequence(),
+                    accumulator,
+                    (previousAccumulator, element) -> function.value().call(
+                            interpreter,
+                            Arrays.asList(previousAccumulator, element)));
+            return toResultList(list.isLazy(), accumulated);
+        });
+    }
 
-            return new GList(mappedList);
+    private LibraryFunction lazy() {
+        final String lambdaName = "lazy";
+        final int arity = 1;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GList list = TypeCastUtils.toGList(args, 0, lambdaName);
+            return list.isLazy() ? list : list.toLazy();
+        });
+    }
+
+    private LibraryFunction parMap() {
+        final String lambdaName = "parMap";
+        final int arity = 2;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GList list = TypeCastUtils.toGList(args, 0, lambdaName);
+            GLambda function = TypeCastUtils.toGLambda(args, 1, lambdaName);
+
+            List<List<GObject>> mappedChunks = processChunksInParallel(interpreter, list, (chunkInterpreter, chunk) -> {
+                List<GObject> mappedChunk = new ArrayList<>(chunk.size());
+                for (GObject element : chunk) {
+                    mappedChunk.add(function.value().call(chunkInterpreter, Collections.singletonList(element)));
+                }
+                return mappedChunk;
+            });
+            return new GList(concatenateChunks(mappedChunks));
         });
     }
+
+    private LibraryFunction parFilter() {
+        final String lambdaName = "parFilter";
+        final int arity = 2;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GList list = TypeCastUtils.toGList(args, 0, lambdaName);
+            GLambda predicate = TypeCastUtils.toGLambda(args, 1, lambdaName);
+
+            List<List<GObject>> filteredChunks = processChunksInParallel(interpreter, list, (chunkInterpreter, chunk) -> {
+                List<GObject> filteredChunk = new ArrayList<>();
+                for (GObject element : chunk) {
+                    GObject keep = predicate.value().call(chunkInterpreter, Collections.singletonList(element));
+                    if (InterpreterUtils.isTruthy(keep)) filteredChunk.add(element);
+                }
+                return filteredChunk;
+            });
+            return new GList(concatenateChunks(filteredChunks));
+        });
+    }
+
+    /**
+     * Reduces a list with an associative function, which may group the elements in any way, but never reorders them.
+     * An empty list reduces to nil.
+     */
+    private LibraryFunction parReduce() {
+        final String lambdaName = "parReduce";
+        final int arity = 2;
+        return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
+            GList list = TypeCastUtils.toGList(args, 0, lambdaName);
+            GLambda function = TypeCastUtils.toGLambda(args, 1, lambdaName);
+            if (list.getSize() == 0) return GNil.INSTANCE;
+
+            List<GObject> reducedChunks = processChunksInParallel(interpreter, list, (chunkInterpreter, chunk) -> {
+                GObject accumulator = chunk.getFirst();
+                for (GObject element : chunk.subList(1, chunk.size())) {
+                    accumulator = function.value().call(chunkInterpreter, Arrays.asList(accumulator, element));
+                }
+                return accumulator;
+            });
+
+            GObject accumulator = reducedChunks.getFirst();
+            for (GObject reducedChunk : reducedChunks.subList(1, reducedChunks.size())) {
+                accumulator = function.value().call(interpreter, Arrays.asList(accumulator, reducedChunk));
+            }
+            return accumulator;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkProcessor<T> {
+        T process(Interpreter interpreter, List<GObject> chunk);
+    }
+
+    /**
+     * Splits a list into contiguous chunks, and processes each chunk on the ForkJoin common pool with its own fork of
+     * the given interpreter. Small lists are processed by the calling thread as a single chunk.
+     *
+     * @return the result of each chunk, in the order of the chunks within the list
+     * @throws RuntimeException the error thrown by the earliest failing chunk, once every chunk has finished, so that
+     * the same error is thrown whichever chunk happens to fail first
+     */
+    private static <T> List<T> processChunksInParallel(Interpreter interpreter, GList list, ChunkProcessor<T> processor) {
+        // Elements may be null (eg: uninitialized variables), which List.copyOf would reject
+        List<GObject> elements = new ArrayList<>(list.value());
+        int chunkCount = Math.min(
+                elements.size() / MIN_PARALLEL_CHUNK_SIZE,
+                ForkJoinPool.getCommonPoolParallelism() * PARALLEL_CHUNKS_PER_WORKER);
+        if (chunkCount <= 1) return Collections.singletonList(processor.process(interpreter, elements));
+
+        List<ForkJoinTask<Result<T, RuntimeException>>> tasks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i ++) {
+            List<GObject> chunk = elements.subList(
+                    (int) ((long) elements.size() * i / chunkCount),
+                    (int) ((long) elements.size() * (i + 1) / chunkCount));
+            Interpreter chunkInterpreter = interpreter.fork();
+            tasks.add(ForkJoinPool.commonPool().submit(() -> processChunk(processor, chunkInterpreter, chunk)));
+        }
+
+        List<T> chunkResults = new ArrayList<>(chunkCount);
+        RuntimeException earliestError = null;
+        for (ForkJoinTask<Result<T, RuntimeException>> task : tasks) {
+            switch (task.join()) {
+                case Result.Success<T, RuntimeException> success -> chunkResults.add(success.value());
+                case Result.Error<T, RuntimeException> error -> {
+                    if (earliestError == null) earliestError = error.value();
+                }
+            }
+        }
+        if (earliestError != null) throw earliestError;
+        return chunkResults;
+    }
+
+    /**
+     * Captures the chunk's error as a result, since ForkJoinTask would otherwise rethrow a copy of it
+     */
+    private static <T> Result<T, RuntimeException> processChunk(
+            ChunkProcessor<T> processor,
+            Interpreter interpreter,
+            List<GObject> chunk) {
+        try {
+            return Result.success(processor.process(interpreter, chunk));
+        } catch (RuntimeException error) {
+            return Result.error(error);
+        }
+    }
+
+    private static List<GObject> concatenateChunks(List<List<GObject>> chunks) {
+        List<GObject> elements = new ArrayList<>();
+        for (List<GObject> chunk : chunks) {
+            elements.addAll(chunk);
+        }
+        return elements;
+    }
+
+    /**
+     * Stages applied to a lazy list are deferred and fused, whereas stages applied to an eager list are computed
+     * immediately, so that callbacks with side effects (eg: appending to another list) run when they are called
+     */
+    private GList toResultList(boolean lazy, LazySequence sequence) {
+        return lazy ? GList.lazy(sequence) : GList.materialize(sequence);
+    }
 }
@@ -32,7 +32,7 @@ public class MathLibrary implements Library {
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GNumeric numeric = TypeCastUtils.toGNumeric(args, 0, lambdaName);
             return switch (numeric) {
-                case GDouble gDouble -> new GInteger((int) Math.floor(gDouble.value()));
+                case GDouble gDouble -> GInteger.of((long) Math.floor(gDouble.doubleValue()));
                 case GInteger gInteger -> gInteger;
             };
         });
@@ -44,7 +44,7 @@ public class MathLibrary implements Library {
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GNumeric numeric = TypeCastUtils.toGNumeric(args, 0, lambdaName);
             return switch (numeric) {
-                case GDouble gDouble -> new GInteger((int) Math.ceil(gDouble.value()));
+                case GDouble gDouble -> GInteger.of((long) Math.ceil(gDouble.doubleValue()));
                 case GInteger gInteger -> gInteger;
             };
         });
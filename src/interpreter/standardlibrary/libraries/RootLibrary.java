@@ -31,7 +31,7 @@ public class RootLibrary implements Library {
         final int arity = 1;
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GObject arg = args.get(0);
-            System.out.println(arg.stringify());
+            interpreter.getScriptOutput().printLine(arg.stringify());
             return arg;
         });
     }
@@ -40,6 +40,6 @@ public class RootLibrary implements Library {
         final String lambdaName = "milliTime";
         final int arity = 0;
         return new LibraryFunction(lambdaName, arity, (interpreter, args) ->
-                new GDouble((double) System.currentTimeMillis()));
+                GDouble.of((double) System.currentTimeMillis()));
     }
 }
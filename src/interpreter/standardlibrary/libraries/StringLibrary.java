@@ -31,7 +31,7 @@ public class StringLibrary implements Library {
         final int arity = 1;
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GString gString = TypeCastUtils.toGString(args, 0, lambdaName);
-            return new GInteger(gString.getSize());
+            return GInteger.of(gString.getSize());
         });
     }
 
@@ -47,7 +47,7 @@ public class StringLibrary implements Library {
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GString gString = TypeCastUtils.toGString(args, 0, lambdaName);
             try {
-                return new GInteger(Integer.parseInt(gString.value()));
+                return GInteger.of(Long.parseLong(gString.value()));
             } catch (Exception e) {
                 return GNil.INSTANCE;
             }
@@ -60,7 +60,7 @@ public class StringLibrary implements Library {
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GString gString = TypeCastUtils.toGString(args, 0, lambdaName);
             try {
-                return new GDouble(Double.parseDouble(gString.value()));
+                return GDouble.of(Double.parseDouble(gString.value()));
             } catch (Exception e) {
                 return GNil.INSTANCE;
             }
@@ -73,7 +73,7 @@ public class StringLibrary implements Library {
         return new LibraryFunction(lambdaName, arity, (interpreter, args) -> {
             GString gString = TypeCastUtils.toGString(args, 0, lambdaName);
             try {
-                return new GBoolean(Boolean.parseBoolean(gString.value()));
+                return GBoolean.of(Boolean.parseBoolean(gString.value()));
             } catch (Exception e) {
                 return GNil.INSTANCE;
             }
@@ -88,7 +88,7 @@ public class StringLibrary implements Library {
             GInteger start = TypeCastUtils.toGInteger(args, 1, lambdaName);
             GInteger end = TypeCastUtils.toGInteger(args, 2, lambdaName);
 
-            String substring = gString.value().substring(start.value(), end.value());
+            String substring = gString.value().substring(start.intValue(), end.intValue());
             return new GString(substring);
         });
     }
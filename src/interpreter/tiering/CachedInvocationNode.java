@@ -0,0 +1,38 @@
+package interpreter.tiering;
+
+import interpreter.EvaluatingInterpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.lambda.InlineCache;
+import interpreter.nodes.ExecutableNode;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+import java.util.Arrays;
+
+@RequiredArgsConstructor
+public class CachedInvocationNode extends ExecutableNode {
+    private final EvaluatingInterpreter interpreter;
+    private final ExecutableNode callee;
+    private final ExecutableNode[] arguments;
+    private final Token closingBracket;
+    private final InlineCache inlineCache;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject calleeValue = callee.execute(frame);
+
+        GObject[] argumentValues = new GObject[arguments.length];
+        for (int i = 0; i < arguments.length; i ++) {
+            argumentValues[i] = arguments[i].execute(frame);
+        }
+
+        if (calleeValue instanceof GLambda gLambda) {
+            return interpreter.invokeLambda(gLambda.value(), Arrays.asList(argumentValues), closingBracket, inlineCache);
+        }
+
+        throw new RuntimeError(closingBracket, "Can only call functions and classes");
+    }
+}
@@ -0,0 +1,22 @@
+package interpreter.tiering;
+
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.lambda.LambdaFunction;
+import interpreter.nodes.ExecutableNode;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+
+@RequiredArgsConstructor
+public class LambdaFunctionNode extends ExecutableNode {
+    private final Expression.Lambda lambda;
+    private final LambdaProfile profile;
+
+    @Override
+    public GObject execute(Environment frame) {
+        LambdaFunction function = new LambdaFunction(lambda, frame);
+        function.setProfile(profile);
+        return new GLambda(function);
+    }
+}
@@ -0,0 +1,24 @@
+package interpreter.tiering;
+
+import interpreter.nodes.ExecutableNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The invocation count of a single lambda expression, shared by every closure created from it, along with its body
+ * compiled to an ExecutableNode once it has become hot. Profiles belong to a single TieredCompiler, since the compiled
+ * body is bound to the interpreter of that compiler.
+ */
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class LambdaProfile {
+    private final TieredCompiler owner;
+    private int invocationCount = 0;
+    private ExecutableNode compiledBody;
+
+    public int incrementInvocationCount() {
+        return ++invocationCount;
+    }
+}
@@ -0,0 +1,32 @@
+package interpreter.tiering;
+
+import interpreter.EvaluatingInterpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.nodes.ExecutableNode;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+import java.util.Collections;
+
+@RequiredArgsConstructor
+public class TailInfixNode extends ExecutableNode {
+    private final EvaluatingInterpreter interpreter;
+    private final ExecutableNode left;
+    private final ExecutableNode right;
+    private final Token operator;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject leftValue = left.execute(frame);
+        GObject rightValue = right.execute(frame);
+
+        if (rightValue instanceof GLambda gLambda) {
+            return interpreter.invokeTailCall(gLambda.value(), Collections.singletonList(leftValue), operator);
+        }
+
+        throw new RuntimeError(operator, "Infix operator '|>' must have a lambda as the second operand");
+    }
+}
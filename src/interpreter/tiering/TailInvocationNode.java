@@ -0,0 +1,36 @@
+package interpreter.tiering;
+
+import interpreter.EvaluatingInterpreter;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.nodes.ExecutableNode;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Token;
+
+import java.util.Arrays;
+
+@RequiredArgsConstructor
+public class TailInvocationNode extends ExecutableNode {
+    private final EvaluatingInterpreter interpreter;
+    private final ExecutableNode callee;
+    private final ExecutableNode[] arguments;
+    private final Token closingBracket;
+
+    @Override
+    public GObject execute(Environment frame) {
+        GObject calleeValue = callee.execute(frame);
+
+        GObject[] argumentValues = new GObject[arguments.length];
+        for (int i = 0; i < arguments.length; i ++) {
+            argumentValues[i] = arguments[i].execute(frame);
+        }
+
+        if (calleeValue instanceof GLambda gLambda) {
+            return interpreter.invokeTailCall(gLambda.value(), Arrays.asList(argumentValues), closingBracket);
+        }
+
+        throw new RuntimeError(closingBracket, "Can only call functions and classes");
+    }
+}
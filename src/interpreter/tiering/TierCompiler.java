@@ -0,0 +1,68 @@
+package interpreter.tiering;
+
+import interpreter.EvaluatingInterpreter;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.nodes.ExecutableNode;
+import interpreter.nodes.NodeCompiler;
+import interpreter.runtime.Environment;
+import model.Expression;
+import resolver.ResolutionTable;
+
+/**
+ * A NodeCompiler for the bodies of hot lambdas executed by the tree-walk interpreter. Nested lambda expressions still
+ * create LambdaFunctions, so that each is profiled and compiled independently. Calls dispatch through the InlineCache of
+ * their invocation site, and calls in tail position are deferred to the trampoline of the enclosing LambdaFunction,
+ * exactly as the InvocationEvaluator does.
+ */
+public class TierCompiler extends NodeCompiler {
+    private final TieredCompiler tieredCompiler;
+    private final EvaluatingInterpreter evaluatingInterpreter;
+
+    public TierCompiler(
+            TieredCompiler tieredCompiler,
+            EvaluatingInterpreter interpreter,
+            ResolutionTable resolutionTable,
+            Environment globalEnvironment,
+            UnaryEvaluator unaryEvaluator,
+            BinaryOperationEvaluator binaryOperationEvaluator) {
+        // Nested lambdas create LambdaFunctions, whose calls are counted by the tree-walk interpreter
+        super(interpreter, resolutionTable, globalEnvironment, unaryEvaluator, binaryOperationEvaluator, null);
+        this.tieredCompiler = tieredCompiler;
+        this.evaluatingInterpreter = interpreter;
+    }
+
+    @Override
+    protected ExecutableNode compileInvocation(Expression.Invocation invocation) {
+        if (!resolutionTable.isTailCall(invocation)) {
+            return new CachedInvocationNode(
+                    evaluatingInterpreter,
+                    compile(invocation.callee()),
+                    compileAll(invocation.arguments()),
+                    invocation.closingBracket(),
+                    resolutionTable.lookUpInlineCache(invocation));
+        }
+
+        return new TailInvocationNode(
+                evaluatingInterpreter,
+                compile(invocation.callee()),
+                compileAll(invocation.arguments()),
+                invocation.closingBracket());
+    }
+
+    @Override
+    protected ExecutableNode compileInfix(Expression.Binary.Infix infix) {
+        if (!resolutionTable.isTailCall(infix)) return super.compileInfix(infix);
+
+        return new TailInfixNode(
+                evaluatingInterpreter,
+                compile(infix.left()),
+                compile(infix.right()),
+                infix.operator());
+    }
+
+    @Override
+    protected ExecutableNode compileLambda(Expression.Lambda lambda) {
+        return new LambdaFunctionNode(lambda, tieredCompiler.lookUpProfile(lambda));
+    }
+}
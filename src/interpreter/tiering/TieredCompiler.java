@@ -0,0 +1,66 @@
+package interpreter.tiering;
+
+import com.google.inject.Inject;
+import interpreter.EvaluatingInterpreter;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.lambda.LambdaFunction;
+import interpreter.nodes.ExecutableNode;
+import interpreter.runtime.Environment;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import resolver.ResolutionTable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The second execution tier of the tree-walk interpreter. Every lambda body starts out interpreted by the evaluators;
+ * once a lambda expression has been invoked {@link #COMPILATION_THRESHOLD} times it is compiled to a tree of
+ * self-specializing ExecutableNodes, which every closure of that lambda executes from then on. Specialized nodes guard
+ * on the types of their operands, and fall back to the generic evaluators when a guard fails.
+ */
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
+public class TieredCompiler {
+    public static final int COMPILATION_THRESHOLD = 1_000;
+
+    private final UnaryEvaluator unaryEvaluator;
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    private final Map<Expression.Lambda, LambdaProfile> profiles = new IdentityHashMap<>();
+
+    /**
+     * Records an invocation of the given lambda, compiling its body if it has just become hot.
+     *
+     * @return the compiled body of the lambda, or null if it should still be interpreted
+     */
+    public ExecutableNode profileInvocation(
+            LambdaFunction function,
+            EvaluatingInterpreter interpreter,
+            ResolutionTable resolutionTable,
+            Environment globalEnvironment) {
+        LambdaProfile profile = function.getProfile();
+        if (profile == null) {
+            profile = lookUpProfile(function.getLambda());
+            function.setProfile(profile);
+        } else if (profile.getOwner() != this) {
+            // The closure was created by another interpreter, which has been forked to invoke it on this thread
+            profile = lookUpProfile(function.getLambda());
+        }
+
+        if (profile.getCompiledBody() == null && profile.incrementInvocationCount() >= COMPILATION_THRESHOLD) {
+            TierCompiler compiler = new TierCompiler(
+                    this,
+                    interpreter,
+                    resolutionTable,
+                    globalEnvironment,
+                    unaryEvaluator,
+                    binaryOperationEvaluator);
+            profile.setCompiledBody(compiler.compile(function.getLambda().body()));
+        }
+        return profile.getCompiledBody();
+    }
+
+    public LambdaProfile lookUpProfile(Expression.Lambda lambda) {
+        return profiles.computeIfAbsent(lambda, ignored -> new LambdaProfile(this));
+    }
+}
@@ -0,0 +1,257 @@
+package interpreter.vm;
+
+import interpreter.datatypes.GNil;
+import interpreter.datatypes.GObject;
+import interpreter.errors.RuntimeError;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.StackSlot;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import model.SugarExpression;
+import model.SymbolTable;
+import model.Token;
+import resolver.ResolutionTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.TokenType.OR;
+
+/**
+ * Compiles desugared and resolved expressions into bytecode for the VirtualMachine. Every expression compiles to a
+ * sequence of instructions which leaves exactly one value (the expression's result) on the operand stack.
+ */
+@RequiredArgsConstructor
+public class BytecodeCompiler {
+    private final ResolutionTable resolutionTable;
+    private ChunkBuilder chunk;
+
+    public Chunk compileProgram(List<Expression> expressions) {
+        chunk = new ChunkBuilder();
+        compileSequence(expressions);
+        chunk.emit(OpCode.RETURN, null);
+        return chunk.build();
+    }
+
+    public Chunk compileExpression(Expression expression) {
+        return compileProgram(List.of(expression));
+    }
+
+    private void compile(Expression expression) {
+        switch (expression) {
+            case Expression.Literal literal -> chunk.emitConstant(literal.value());
+            case Expression.ListLiteral listLiteral -> {
+                listLiteral.values().forEach(this::compile);
+                chunk.emit(OpCode.BUILD_LIST, listLiteral.closingBracket(), listLiteral.values().size());
+            }
+            case Expression.StructFieldDeclaration fieldDeclaration -> compile(fieldDeclaration.initializer());
+            case Expression.StructLiteral structLiteral -> compileStructLiteral(structLiteral);
+            case Expression.Variable variable -> {
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(variable);
+                if (stackSlot != null) {
+                    chunk.emit(OpCode.LOAD_LOCAL, variable.name(), stackSlot.depth(), stackSlot.slot());
+                } else {
+                    chunk.emit(OpCode.LOAD_GLOBAL, variable.name(), chunk.addConstant(variable.name()));
+                }
+            }
+            case Expression.Declaration declaration -> {
+                if (declaration.initializer() == null) chunk.emitConstant(null);
+                else compile(declaration.initializer());
+
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(declaration);
+                if (stackSlot != null) {
+                    chunk.emit(OpCode.DEFINE_LOCAL, declaration.variable(), stackSlot.slot());
+                } else {
+                    chunk.emit(OpCode.DEFINE_GLOBAL, declaration.variable(), chunk.addConstant(declaration.variable()));
+                }
+            }
+            case Expression.Assignment assignment -> {
+                compile(assignment.value());
+
+                StackSlot stackSlot = resolutionTable.lookUpStackSlot(assignment);
+                if (stackSlot != null) {
+                    chunk.emit(OpCode.STORE_LOCAL, assignment.variable(), stackSlot.depth(), stackSlot.slot());
+                } else {
+                    chunk.emit(OpCode.STORE_GLOBAL, assignment.variable(), chunk.addConstant(assignment.variable()));
+                }
+            }
+            case Expression.IndexAssignment indexAssignment -> {
+                compile(indexAssignment.assignee());
+                compile(indexAssignment.index());
+                compile(indexAssignment.value());
+                chunk.emit(OpCode.SET_INDEX, indexAssignment.closingBracket(), addPropertyCache(indexAssignment));
+            }
+            case Expression.Index index -> {
+                compile(index.callee());
+                compile(index.index());
+                chunk.emit(OpCode.GET_INDEX, index.closingBracketOrDot(), addPropertyCache(index));
+            }
+            case Expression.Group group -> compile(group.expression());
+            case Expression.Unary unary -> {
+                compile(unary.right());
+                chunk.emit(OpCode.UNARY, unary.operator());
+            }
+            case Expression.Binary.Operation operation -> {
+                compile(operation.left());
+                compile(operation.right());
+                chunk.emit(OpCode.BINARY, operation.operator());
+            }
+            case Expression.Binary.Logical logical -> {
+                compile(logical.left());
+                int shortCircuitJump = chunk.emitJump(
+                        logical.operator().type() == OR ? OpCode.JUMP_IF_TRUE_OR_POP : OpCode.JUMP_IF_FALSE_OR_POP,
+                        logical.operator());
+                compile(logical.right());
+                chunk.patchJump(shortCircuitJump);
+            }
+            case Expression.Binary.Infix infix -> {
+                compile(infix.left());
+                compile(infix.right());
+                chunk.emit(resolutionTable.isTailCall(infix) ? OpCode.TAIL_INFIX : OpCode.INFIX, infix.operator());
+            }
+            case Expression.Block block -> {
+                if (resolutionTable.isScopeElided(block)) {
+                    compileSequence(block.expressions());
+                } else {
+                    chunk.emit(OpCode.PUSH_SCOPE, null, resolutionTable.lookUpScopeSize(block));
+                    compileSequence(block.expressions());
+                    chunk.emit(OpCode.POP_SCOPE, null);
+                }
+            }
+            case Expression.If ifExpression -> {
+                compile(ifExpression.condition());
+                int elseJump = chunk.emitJump(OpCode.JUMP_IF_FALSE, null);
+                compile(ifExpression.thenBranch());
+                int endJump = chunk.emitJump(OpCode.JUMP, null);
+                chunk.patchJump(elseJump);
+                if (ifExpression.elseBranch() != null) compile(ifExpression.elseBranch());
+                else chunk.emitConstant(GNil.INSTANCE);
+                chunk.patchJump(endJump);
+            }
+            case Expression.While whileExpression -> {
+                // The result of the loop is the result of the final iteration of its body, if any
+                chunk.emitConstant(null);
+                int loopStart = chunk.size();
+                compile(whileExpression.condition());
+                int exitJump = chunk.emitJump(OpCode.JUMP_IF_FALSE, null);
+                chunk.emit(OpCode.POP, null);
+                compile(whileExpression.body());
+                chunk.emit(OpCode.JUMP, null, loopStart);
+                chunk.patchJump(exitJump);
+            }
+            case Expression.Invocation invocation -> {
+                compile(invocation.callee());
+                invocation.arguments().forEach(this::compile);
+                chunk.emit(
+                        resolutionTable.isTailCall(invocation) ? OpCode.TAIL_CALL : OpCode.CALL,
+                        invocation.closingBracket(),
+                        invocation.arguments().size());
+            }
+            case Expression.Lambda lambda -> compileLambda(lambda);
+            case SugarExpression sugarExpression -> throw new RuntimeError(sugarExpression.getErrorReportingToken(), "A sugar expression was encountered in the bytecode compiler, which caused it to panic. This expression cannot be compiled, and should have been desugared before compilation. This is a bug in the GryphonScipt language implementation.");
+        }
+    }
+
+    private void compileSequence(List<Expression> expressions) {
+        if (expressions.isEmpty()) {
+            chunk.emitConstant(null);
+            return;
+        }
+
+        for (int i = 0; i < expressions.size(); i ++) {
+            if (i > 0) chunk.emit(OpCode.POP, null);
+            compile(expressions.get(i));
+        }
+    }
+
+    /**
+     * @return the constant index of the PropertyCache of the given field access site, or -1 if it has none
+     */
+    private int addPropertyCache(Expression site) {
+        PropertyCache propertyCache = resolutionTable.lookUpPropertyCache(site);
+        return propertyCache != null ? chunk.addConstant(propertyCache) : -1;
+    }
+
+    private void compileStructLiteral(Expression.StructLiteral structLiteral) {
+        for (Expression fieldExpression : structLiteral.fields()) {
+            if (fieldExpression instanceof Expression.StructFieldDeclaration field) {
+                chunk.emitConstant(SymbolTable.intern(field.variable().lexeme()));
+                compile(field.initializer());
+            } else {
+                throw new RuntimeError(structLiteral.closingBracket(), "Invalid struct literal. Fields must be in the form of \"fieldName\", or \"fieldName: expression\"");
+            }
+        }
+        chunk.emit(OpCode.BUILD_STRUCT, structLiteral.closingBracket(), structLiteral.fields().size());
+    }
+
+    private void compileLambda(Expression.Lambda lambda) {
+        ChunkBuilder enclosingChunk = chunk;
+        chunk = new ChunkBuilder();
+        compile(lambda.body());
+        chunk.emit(OpCode.RETURN, null);
+        FunctionPrototype prototype = new FunctionPrototype(
+                chunk.build(),
+                lambda.parameters().size(),
+                resolutionTable.lookUpScopeSize(lambda));
+        chunk = enclosingChunk;
+
+        chunk.emit(OpCode.CLOSURE, null, chunk.addConstant(prototype));
+    }
+
+    private static class ChunkBuilder {
+        private int[] code = new int[64];
+        private Token[] tokens = new Token[64];
+        private int size = 0;
+        private final List<Object> constants = new ArrayList<>();
+
+        int size() {
+            return size;
+        }
+
+        void emit(int opCode, Token token, int... operands) {
+            ensureCapacity(size + 1 + operands.length);
+            tokens[size] = token;
+            code[size++] = opCode;
+            for (int operand : operands) {
+                code[size++] = operand;
+            }
+        }
+
+        void emitConstant(GObject value) {
+            emit(OpCode.CONSTANT, null, addConstant(value));
+        }
+
+        /**
+         * @return the offset of the jump target operand, which must later be patched
+         */
+        int emitJump(int opCode, Token token) {
+            emit(opCode, token, -1);
+            return size - 1;
+        }
+
+        void patchJump(int operandOffset) {
+            code[operandOffset] = size;
+        }
+
+        int addConstant(Object constant) {
+            constants.add(constant);
+            return constants.size() - 1;
+        }
+
+        Chunk build() {
+            return new Chunk(
+                    Arrays.copyOf(code, size),
+                    constants.toArray(),
+                    Arrays.copyOf(tokens, size));
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > code.length) {
+                int newLength = Math.max(capacity, code.length * 2);
+                code = Arrays.copyOf(code, newLength);
+                tokens = Arrays.copyOf(tokens, newLength);
+            }
+        }
+    }
+}
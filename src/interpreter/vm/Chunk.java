@@ -0,0 +1,12 @@
+package interpreter.vm;
+
+import model.Token;
+
+/**
+ * A compiled unit of bytecode.
+ *
+ * @param code the instructions and their operands
+ * @param constants the constant pool, referenced by index from instruction operands
+ * @param tokens the source token of the instruction starting at each offset of the code array, used for error reporting
+ */
+public record Chunk(int[] code, Object[] constants, Token[] tokens) {}
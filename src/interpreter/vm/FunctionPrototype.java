@@ -0,0 +1,10 @@
+package interpreter.vm;
+
+/**
+ * The compiled form of a lambda expression. A prototype is shared by every closure created from the same lambda.
+ *
+ * @param chunk the compiled lambda body, which ends with a RETURN instruction
+ * @param arity the number of parameters, which occupy the leading slots of the lambda's scope
+ * @param scopeSize the number of slots required by the lambda's scope
+ */
+public record FunctionPrototype(Chunk chunk, int arity, int scopeSize) {}
@@ -0,0 +1,63 @@
+package interpreter.vm;
+
+/**
+ * The instruction set of the bytecode VM. Each instruction is a single int opcode in a Chunk's code array, followed by
+ * its operands (if any). Operands are documented in brackets, and the effect on the operand stack is documented as
+ * [before] -> [after].
+ */
+public final class OpCode {
+    private OpCode() {}
+
+    /** (constantIndex) [] -> [constant] */
+    public static final int CONSTANT = 0;
+    /** [value] -> [] */
+    public static final int POP = 1;
+    /** (depth, slot) [] -> [value] */
+    public static final int LOAD_LOCAL = 2;
+    /** (depth, slot) [value] -> [value] */
+    public static final int STORE_LOCAL = 3;
+    /** (slot) [value] -> [value] */
+    public static final int DEFINE_LOCAL = 4;
+    /** (nameTokenConstantIndex) [] -> [value] */
+    public static final int LOAD_GLOBAL = 5;
+    /** (nameTokenConstantIndex) [value] -> [value] */
+    public static final int STORE_GLOBAL = 6;
+    /** (nameTokenConstantIndex) [value] -> [value] */
+    public static final int DEFINE_GLOBAL = 7;
+    /** (scopeSize) [] -> [] */
+    public static final int PUSH_SCOPE = 8;
+    /** [] -> [] */
+    public static final int POP_SCOPE = 9;
+    /** (elementCount) [element...] -> [list] */
+    public static final int BUILD_LIST = 10;
+    /** (fieldCount) [name, value...] -> [struct] */
+    public static final int BUILD_STRUCT = 11;
+    /** (propertyCacheConstantIndex, or -1 if the index is not a literal field name) [indexable, index] -> [value] */
+    public static final int GET_INDEX = 12;
+    /** (propertyCacheConstantIndex, or -1 if the index is not a literal field name) [indexable, index, value] -> [result] */
+    public static final int SET_INDEX = 13;
+    /** [right] -> [result] */
+    public static final int UNARY = 14;
+    /** [left, right] -> [result] */
+    public static final int BINARY = 15;
+    /** (target) [] -> [] */
+    public static final int JUMP = 16;
+    /** (target) [condition] -> [] */
+    public static final int JUMP_IF_FALSE = 17;
+    /** (target) [value] -> [value] if jumping, otherwise [] */
+    public static final int JUMP_IF_TRUE_OR_POP = 18;
+    /** (target) [value] -> [value] if jumping, otherwise [] */
+    public static final int JUMP_IF_FALSE_OR_POP = 19;
+    /** (prototypeConstantIndex) [] -> [lambda] */
+    public static final int CLOSURE = 20;
+    /** (argumentCount) [callee, argument...] -> [result] */
+    public static final int CALL = 21;
+    /** [argument, callee] -> [result] */
+    public static final int INFIX = 22;
+    /** [result] -> [] and resumes the calling frame */
+    public static final int RETURN = 23;
+    /** (argumentCount) [callee, argument...] -> [result], replacing the current frame if the callee is compiled */
+    public static final int TAIL_CALL = 24;
+    /** [argument, callee] -> [result], replacing the current frame if the callee is compiled */
+    public static final int TAIL_INFIX = 25;
+}
@@ -0,0 +1,425 @@
+package interpreter.vm;
+
+import com.google.inject.Inject;
+import config.ExecutionScoped;
+import config.ExecutionLimits;
+import error.ErrorReporter;
+import error.Result;
+import interpreter.Interpreter;
+import interpreter.InterpreterUtils;
+import interpreter.datatypes.GIndexable;
+import interpreter.datatypes.GLambda;
+import interpreter.datatypes.GList;
+import interpreter.datatypes.GObject;
+import interpreter.datatypes.GString;
+import interpreter.datatypes.GStruct;
+import interpreter.errors.RuntimeError;
+import interpreter.evaluators.BinaryOperationEvaluator;
+import interpreter.evaluators.UnaryEvaluator;
+import interpreter.lambda.InvocationExecutionError;
+import interpreter.lambda.Invokable;
+import interpreter.runtime.Environment;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.ScriptOutput;
+import interpreter.runtime.StackSlot;
+import interpreter.standardlibrary.LibraryStructFactory;
+import lombok.RequiredArgsConstructor;
+import model.Expression;
+import model.Token;
+import resolver.ResolutionTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An Interpreter which compiles programs to bytecode, and executes them in a dispatch loop over an explicit operand
+ * stack. Calls between compiled lambdas push a CallFrame onto a heap-allocated frame stack instead of recursing on the
+ * Java stack, so only calls made through native library functions (eg: the callback of StdLib.List.map) re-enter the
+ * dispatch loop. Recursion depth is therefore bounded by the heap rather than the JVM thread stack, up to the configured
+ * ExecutionLimits. Calls in tail position replace the current frame rather than pushing a new one, so tail recursion
+ * does not count towards that limit.
+ */
+@ExecutionScoped
+@RequiredArgsConstructor(onConstructor_ = { @Inject})
+public class VirtualMachine implements Interpreter {
+    private static final int INITIAL_STACK_CAPACITY = 32;
+    private static final int INITIAL_FRAME_CAPACITY = 16;
+
+    private final ErrorReporter errorReporter;
+    private final ScriptOutput scriptOutput;
+    private final LibraryStructFactory libraryStructFactory;
+    private final UnaryEvaluator unaryEvaluator;
+    private final BinaryOperationEvaluator binaryOperationEvaluator;
+    private final ExecutionLimits executionLimits;
+    // Shared with every fork of this interpreter
+    private ResolutionTable resolutionTable = new ResolutionTable();
+    private Environment globalEnvironment = Environment.createGlobalEnvironment();
+    private Environment currentEnvironment = globalEnvironment;
+    // The number of active calls, across both the frame stack and re-entries of the dispatch loop from native functions
+    private int callDepth = 0;
+
+    @Override
+    public GObject executeProgram(List<Expression> expressions) {
+        // Add standard library to the global scope
+        globalEnvironment.define(
+                libraryStructFactory.getStandardLibraryName(),
+                libraryStructFactory.buildStandardLibraryStruct());
+
+        try {
+            Chunk program = new BytecodeCompiler(resolutionTable).compileProgram(expressions);
+            return run(program, globalEnvironment);
+        } catch (RuntimeError error) {
+            errorReporter.reportRuntimeError(error);
+            return null;
+        } finally {
+            scriptOutput.flush();
+        }
+    }
+
+    @Override
+    public GObject evaluateExpression(Expression expression) {
+        return run(new BytecodeCompiler(resolutionTable).compileExpression(expression), currentEnvironment);
+    }
+
+    @Override
+    public GObject evaluateExpressionInNewScope(Supplier<GObject> expressionEvaluator, int scopeSize) {
+        return evaluateExpressionInGivenScope(expressionEvaluator, new Environment(currentEnvironment, scopeSize));
+    }
+
+    @Override
+    public GObject evaluateExpressionInGivenScope(Supplier<GObject> expressionEvaluator, Environment scope) {
+        Environment previousEnvironment = currentEnvironment;
+        currentEnvironment = scope;
+        try {
+            return expressionEvaluator.get();
+        } finally {
+            currentEnvironment = previousEnvironment;
+        }
+    }
+
+    @Override
+    public Environment getCurrentScope() {
+        return currentEnvironment;
+    }
+
+    @Override
+    public void loadResolutionTable(ResolutionTable resolutionTable) {
+        this.resolutionTable.merge(resolutionTable);
+    }
+
+    @Override
+    public int lookUpScopeSize(Expression scope) {
+        return resolutionTable.lookUpScopeSize(scope);
+    }
+
+    @Override
+    public boolean isScopeElided(Expression.Block block) {
+        return resolutionTable.isScopeElided(block);
+    }
+
+    @Override
+    public boolean isScopeReusable(Expression.Block block) {
+        return resolutionTable.isScopeReusable(block);
+    }
+
+    @Override
+    public void defineStackVariable(Expression.Declaration declaration, GObject value) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(declaration);
+        if (stackSlot != null) {
+            currentEnvironment.defineAt(stackSlot.slot(), value);
+        } else {
+            globalEnvironment.define(declaration.variable().lexeme(), value);
+        }
+    }
+
+    @Override
+    public void assignStackVariable(Expression.Assignment expression, GObject value) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(expression);
+        if (stackSlot != null) {
+            currentEnvironment.assignAtAncestor(stackSlot.depth(), stackSlot.slot(), value);
+        } else {
+            globalEnvironment.assign(expression.variable(), value);
+        }
+    }
+
+    @Override
+    public GObject lookUpStackVariable(Expression.Variable variable) {
+        StackSlot stackSlot = resolutionTable.lookUpStackSlot(variable);
+        if (stackSlot != null) {
+            return currentEnvironment.getAt(stackSlot.depth(), stackSlot.slot());
+        } else {
+            return globalEnvironment.get(variable.name());
+        }
+    }
+
+    @Override
+    public GObject invokeLambda(Invokable invokable, List<GObject> arguments, Token token) {
+        if (arguments.size() != invokable.arity()) {
+            throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", invokable.arity(), arguments.size()));
+        }
+        try {
+            return invokable.call(this, arguments);
+        } catch (InvocationExecutionError error) {
+            throw new RuntimeError(token, error.getMessage());
+        }
+    }
+
+    @Override
+    public PropertyCache lookUpPropertyCache(Expression site) {
+        return resolutionTable.lookUpPropertyCache(site);
+    }
+
+    @Override
+    public ScriptOutput getScriptOutput() {
+        return scriptOutput;
+    }
+
+    @Override
+    public Interpreter fork() {
+        VirtualMachine fork = new VirtualMachine(errorReporter, scriptOutput, libraryStructFactory, unaryEvaluator, binaryOperationEvaluator, executionLimits);
+        fork.resolutionTable = resolutionTable;
+        fork.globalEnvironment = globalEnvironment;
+        fork.currentEnvironment = globalEnvironment;
+        return fork;
+    }
+
+    GObject invokeClosure(VmClosure closure, List<GObject> arguments) {
+        if (callDepth == executionLimits.maxStackDepth()) {
+            throw new InvocationExecutionError(executionLimits.getStackDepthExceededMessage());
+        }
+
+        Environment calleeEnvironment = new Environment(closure.closure(), closure.prototype().scopeSize());
+        for (int i = 0; i < arguments.size(); i ++) {
+            calleeEnvironment.defineAt(i, arguments.get(i));
+        }
+        callDepth++;
+        try {
+            return run(closure.prototype().chunk(), calleeEnvironment);
+        } catch (StackOverflowError error) {
+            throw new InvocationExecutionError(ExecutionLimits.JVM_STACK_EXCEEDED_MESSAGE);
+        } finally {
+            callDepth--;
+        }
+    }
+
+    private GObject run(Chunk entryChunk, Environment entryEnvironment) {
+        Environment previousEnvironment = currentEnvironment;
+        int entryCallDepth = callDepth;
+
+        GObject[] stack = new GObject[INITIAL_STACK_CAPACITY];
+        int sp = 0;
+        CallFrame[] frames = new CallFrame[INITIAL_FRAME_CAPACITY];
+        int frameCount = 0;
+
+        int[] code = entryChunk.code();
+        Object[] constants = entryChunk.constants();
+        Token[] tokens = entryChunk.tokens();
+        Environment environment = entryEnvironment;
+        int ip = 0;
+
+        try {
+            while (true) {
+                // Every instruction pushes at most one value more than it pops
+                if (sp == stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+
+                int instructionOffset = ip;
+                int opCode = code[ip++];
+                switch (opCode) {
+                    case OpCode.CONSTANT -> stack[sp++] = (GObject) constants[code[ip++]];
+                    case OpCode.POP -> stack[--sp] = null;
+                    case OpCode.LOAD_LOCAL -> {
+                        int depth = code[ip++];
+                        stack[sp++] = environment.getAt(depth, code[ip++]);
+                    }
+                    case OpCode.STORE_LOCAL -> {
+                        int depth = code[ip++];
+                        environment.assignAtAncestor(depth, code[ip++], stack[sp - 1]);
+                    }
+                    case OpCode.DEFINE_LOCAL -> environment.defineAt(code[ip++], stack[sp - 1]);
+                    case OpCode.LOAD_GLOBAL -> stack[sp++] = globalEnvironment.get((Token) constants[code[ip++]]);
+                    case OpCode.STORE_GLOBAL -> globalEnvironment.assign((Token) constants[code[ip++]], stack[sp - 1]);
+                    case OpCode.DEFINE_GLOBAL -> globalEnvironment.define(((Token) constants[code[ip++]]).lexeme(), stack[sp - 1]);
+                    case OpCode.PUSH_SCOPE -> environment = new Environment(environment, code[ip++]);
+                    case OpCode.POP_SCOPE -> environment = environment.getEnclosingEnvironment();
+                    case OpCode.BUILD_LIST -> {
+                        int elementCount = code[ip++];
+                        List<GObject> backingList = new ArrayList<>(elementCount);
+                        for (int i = sp - elementCount; i < sp; i ++) {
+                            backingList.add(stack[i]);
+                        }
+                        sp = clearStack(stack, sp - elementCount, sp);
+                        stack[sp++] = new GList(backingList);
+                    }
+                    case OpCode.BUILD_STRUCT -> {
+                        int fieldCount = code[ip++];
+                        GStruct struct = GStruct.initEmptyStruct();
+                        for (int i = sp - 2 * fieldCount; i < sp; i += 2) {
+                            struct.setField((GString) stack[i], stack[i + 1]);
+                        }
+                        sp = clearStack(stack, sp - 2 * fieldCount, sp);
+                        stack[sp++] = struct;
+                    }
+                    case OpCode.GET_INDEX -> {
+                        int propertyCacheIndex = code[ip++];
+                        GObject index = stack[--sp];
+                        GObject callee = stack[sp - 1];
+                        if (propertyCacheIndex >= 0 && callee instanceof GStruct struct) {
+                            stack[sp - 1] = ((PropertyCache) constants[propertyCacheIndex]).getField(struct);
+                            stack[sp] = null;
+                            continue;
+                        }
+                        if (!(callee instanceof GIndexable indexable)) {
+                            throw new RuntimeError(tokens[instructionOffset], "Cannot index a primitive data type or lambda, only lists and structs can be indexed");
+                        }
+                        stack[sp - 1] = unwrapIndexResult(indexable.getAtIndex(index), tokens[instructionOffset]);
+                        stack[sp] = null;
+                    }
+                    case OpCode.SET_INDEX -> {
+                        int propertyCacheIndex = code[ip++];
+                        GObject value = stack[--sp];
+                        GObject index = stack[--sp];
+                        GObject assignee = stack[sp - 1];
+                        if (propertyCacheIndex >= 0 && assignee instanceof GStruct struct) {
+                            stack[sp - 1] = ((PropertyCache) constants[propertyCacheIndex]).setField(struct, value);
+                            clearStack(stack, sp, sp + 2);
+                            continue;
+                        }
+                        if (!(assignee instanceof GIndexable indexable)) {
+                            throw new RuntimeError(tokens[instructionOffset], "Cannot index a primitive data type, only lists and structs can be indexed");
+                        }
+                        stack[sp - 1] = unwrapIndexResult(indexable.setAtIndex(index, value), tokens[instructionOffset]);
+                        clearStack(stack, sp, sp + 2);
+                    }
+                    case OpCode.UNARY -> stack[sp - 1] = unaryEvaluator.evaluateOperation(tokens[instructionOffset], stack[sp - 1]);
+                    case OpCode.BINARY -> {
+                        GObject right = stack[--sp];
+                        stack[sp - 1] = binaryOperationEvaluator.evaluateOperation(tokens[instructionOffset], stack[sp - 1], right);
+                        stack[sp] = null;
+                    }
+                    case OpCode.JUMP -> ip = code[ip];
+                    case OpCode.JUMP_IF_FALSE -> {
+                        int target = code[ip++];
+                        GObject condition = stack[--sp];
+                        stack[sp] = null;
+                        if (!InterpreterUtils.isTruthy(condition)) ip = target;
+                    }
+                    case OpCode.JUMP_IF_TRUE_OR_POP -> {
+                        int target = code[ip++];
+                        if (InterpreterUtils.isTruthy(stack[sp - 1])) ip = target;
+                        else stack[--sp] = null;
+                    }
+                    case OpCode.JUMP_IF_FALSE_OR_POP -> {
+                        int target = code[ip++];
+                        if (!InterpreterUtils.isTruthy(stack[sp - 1])) ip = target;
+                        else stack[--sp] = null;
+                    }
+                    case OpCode.CLOSURE -> {
+                        FunctionPrototype prototype = (FunctionPrototype) constants[code[ip++]];
+                        stack[sp++] = new GLambda(new VmClosure(prototype, environment));
+                    }
+                    case OpCode.CALL, OpCode.INFIX, OpCode.TAIL_CALL, OpCode.TAIL_INFIX -> {
+                        Token token = tokens[instructionOffset];
+                        int argumentCount;
+                        if (opCode == OpCode.CALL || opCode == OpCode.TAIL_CALL) {
+                            argumentCount = code[ip++];
+                        } else {
+                            // Reorder [argument, callee] into the calling convention of [callee, argument]
+                            GObject callee = stack[sp - 1];
+                            if (!(callee instanceof GLambda)) {
+                                throw new RuntimeError(token, "Infix operator '|>' must have a lambda as the second operand");
+                            }
+                            stack[sp - 1] = stack[sp - 2];
+                            stack[sp - 2] = callee;
+                            argumentCount = 1;
+                        }
+
+                        int calleeIndex = sp - argumentCount - 1;
+                        if (!(stack[calleeIndex] instanceof GLambda gLambda)) {
+                            throw new RuntimeError(token, "Can only call functions and classes");
+                        }
+                        Invokable invokable = gLambda.value();
+                        if (argumentCount != invokable.arity()) {
+                            throw new RuntimeError(token, String.format("Expected %d arguments but got %d.", invokable.arity(), argumentCount));
+                        }
+
+                        if (invokable instanceof VmClosure closure) {
+                            Environment calleeEnvironment = new Environment(closure.closure(), closure.prototype().scopeSize());
+                            for (int i = 0; i < argumentCount; i ++) {
+                                calleeEnvironment.defineAt(i, stack[calleeIndex + 1 + i]);
+                            }
+                            sp = clearStack(stack, calleeIndex, sp);
+
+                            // A call in tail position replaces the current frame, whose result is the callee's result.
+                            // Otherwise, suspend the calling frame, and begin executing the callee
+                            if (opCode == OpCode.CALL || opCode == OpCode.INFIX) {
+                                if (callDepth == executionLimits.maxStackDepth()) {
+                                    throw new RuntimeError(token, executionLimits.getStackDepthExceededMessage());
+                                }
+                                callDepth++;
+                                if (frameCount == frames.length) frames = Arrays.copyOf(frames, frames.length * 2);
+                                frames[frameCount++] = new CallFrame(code, constants, tokens, environment, ip);
+                            }
+                            Chunk calleeChunk = closure.prototype().chunk();
+                            code = calleeChunk.code();
+                            constants = calleeChunk.constants();
+                            tokens = calleeChunk.tokens();
+                            environment = calleeEnvironment;
+                            ip = 0;
+                        } else {
+                            List<GObject> arguments = Arrays.asList(Arrays.copyOfRange(stack, calleeIndex + 1, sp));
+                            sp = clearStack(stack, calleeIndex, sp);
+                            currentEnvironment = environment;
+                            try {
+                                stack[sp++] = invokable.call(this, arguments);
+                            } catch (InvocationExecutionError error) {
+                                throw new RuntimeError(token, error.getMessage());
+                            }
+                        }
+                    }
+                    case OpCode.RETURN -> {
+                        GObject result = stack[--sp];
+                        stack[sp] = null;
+                        if (frameCount == 0) return result;
+
+                        // Resume the calling frame
+                        callDepth--;
+                        CallFrame caller = frames[--frameCount];
+                        frames[frameCount] = null;
+                        code = caller.code();
+                        constants = caller.constants();
+                        tokens = caller.tokens();
+                        environment = caller.environment();
+                        ip = caller.ip();
+                        stack[sp++] = result;
+                    }
+                    default -> throw new IllegalStateException("Unknown opcode " + opCode + " at offset " + instructionOffset);
+                }
+            }
+        } finally {
+            currentEnvironment = previousEnvironment;
+            callDepth = entryCallDepth;
+        }
+    }
+
+    private GObject unwrapIndexResult(Result<GObject, String> result, Token token) {
+        return switch (result) {
+            case Result.Success<GObject, String> success -> success.value();
+            case Result.Error<GObject, String> error -> throw new RuntimeError(token, error.value());
+        };
+    }
+
+    /**
+     * Releases references held by the operand stack between the given offsets, so popped values can be garbage
+     * collected.
+     *
+     * @return the new stack pointer
+     */
+    private static int clearStack(GObject[] stack, int from, int to) {
+        Arrays.fill(stack, from, to, null);
+        return from;
+    }
+
+    private record CallFrame(int[] code, Object[] constants, Token[] tokens, Environment environment, int ip) {}
+}
@@ -0,0 +1,24 @@
+package interpreter.vm;
+
+import interpreter.Interpreter;
+import interpreter.datatypes.GObject;
+import interpreter.lambda.InvocationExecutionError;
+import interpreter.lambda.Invokable;
+import interpreter.runtime.Environment;
+
+import java.util.List;
+
+public record VmClosure(FunctionPrototype prototype, Environment closure) implements Invokable {
+    @Override
+    public int arity() {
+        return prototype.arity();
+    }
+
+    @Override
+    public GObject call(Interpreter interpreter, List<GObject> arguments) {
+        if (interpreter instanceof VirtualMachine virtualMachine) {
+            return virtualMachine.invokeClosure(this, arguments);
+        }
+        throw new InvocationExecutionError("A lambda compiled to bytecode can only be invoked by the bytecode VM");
+    }
+}
@@ -0,0 +1,43 @@
+package model;
+
+import interpreter.datatypes.GString;
+import util.WeakInterner;
+
+/**
+ * The global table of interned symbols: identifier lexemes and field names written in source code. Every occurrence
+ * of a symbol shares a single canonical GString (and underlying String) instance, whose hash is computed once. Lookups
+ * keyed by symbols (eg: variables in the global environment, and fields of structs) therefore compare keys by identity
+ * rather than character by character, while remaining interchangeable with equal GStrings built at runtime.
+ *
+ * The table is shared by every execution, so a long-lived executor would otherwise retain the symbols of every script
+ * it has ever run. Canonical GStrings are therefore only held weakly, and a symbol which is no longer referenced by any
+ * program or struct is removed once it has been garbage collected. Identity is only ever a fast path before comparing
+ * by value, so a symbol which is interned again afterwards simply gets a new canonical instance. Its String is
+ * interned by the JVM, which is also weakly held, so it is still shared with the tokens of programs which outlived it.
+ */
+public final class SymbolTable {
+    private static final WeakInterner<String, GString> SYMBOLS = new WeakInterner<>();
+
+    private SymbolTable() {}
+
+    /**
+     * @return the canonical GString for the given symbol name
+     */
+    public static GString intern(String name) {
+        return SYMBOLS.intern(name, key -> new GString(key.intern()));
+    }
+
+    /**
+     * @return true if the given GString is the canonical instance of its symbol, rather than an equal copy
+     */
+    public static boolean isInterned(GString symbol) {
+        return SYMBOLS.get(symbol.value()) == symbol;
+    }
+
+    /**
+     * @return the canonical String instance for the given symbol name
+     */
+    public static String internName(String name) {
+        return intern(name).value();
+    }
+}
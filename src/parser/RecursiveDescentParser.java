@@ -1,7 +1,7 @@
 package parser;
 
 import com.google.inject.Inject;
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import error.ErrorReporter;
 import interpreter.datatypes.GBoolean;
 import interpreter.datatypes.GDouble;
@@ -19,7 +19,7 @@ import java.util.function.Supplier;
 
 import static model.TokenType.*;
 
-@Singleton
+@ExecutionScoped
 public class RecursiveDescentParser extends BaseParser implements Parser {
     @Inject
     public RecursiveDescentParser(ErrorReporter errorReporter) {
@@ -85,7 +85,7 @@ public class RecursiveDescentParser extends BaseParser implements Parser {
         List<SugarExpression.ArrayDestructureField> fields = new ArrayList<>();
         int runningCount = 0;
         do {
-            Expression indexContext = new Expression.Literal(new GInteger(runningCount++));
+            Expression indexContext = new Expression.Literal(GInteger.of(runningCount++));
             List<Expression> newContext = new ArrayList<>(context);
             newContext.add(indexContext);
 
@@ -112,7 +112,7 @@ public class RecursiveDescentParser extends BaseParser implements Parser {
         do {
             Token fieldName = consume(IDENTIFIER, "Expected identifier for struct destructure field name");
             List<Expression> newContext = new ArrayList<>(context);
-            newContext.add(new Expression.Literal(new GString(fieldName.lexeme())));
+            newContext.add(new Expression.Literal(SymbolTable.intern(fieldName.lexeme())));
             SugarExpression.Destructure nullableFieldValue = null;
 
             // Allow for variable punning by optionally recursing on nested field
@@ -348,7 +348,7 @@ public class RecursiveDescentParser extends BaseParser implements Parser {
 
     private Expression finishDotIndexing(Expression callee) {
         Token fieldName = consume(IDENTIFIER, "Expected identifier after '.'");
-        Expression variableIndex = new Expression.Literal(new GString(fieldName.lexeme()));
+        Expression variableIndex = new Expression.Literal(SymbolTable.intern(fieldName.lexeme()));
         return new Expression.Index(callee, fieldName, variableIndex);
     }
 
@@ -391,10 +391,10 @@ public class RecursiveDescentParser extends BaseParser implements Parser {
     private Expression parsePrimaryExpression() {
         // Literals
         if (matchAndConsumeAny(NIL)) return Expression.NIL;
-        if (matchAndConsumeAny(TRUE)) return new Expression.Literal(new GBoolean(true));
-        if (matchAndConsumeAny(FALSE)) return new Expression.Literal(new GBoolean(false));
-        if (matchAndConsumeAny(INTEGER)) return new Expression.Literal(new GInteger((Integer) previous().literal()));
-        if (matchAndConsumeAny(DOUBLE)) return new Expression.Literal(new GDouble((Double) previous().literal()));
+        if (matchAndConsumeAny(TRUE)) return new Expression.Literal(GBoolean.TRUE);
+        if (matchAndConsumeAny(FALSE)) return new Expression.Literal(GBoolean.FALSE);
+        if (matchAndConsumeAny(INTEGER)) return new Expression.Literal(GInteger.of((Long) previous().literal()));
+        if (matchAndConsumeAny(DOUBLE)) return new Expression.Literal(GDouble.of((Double) previous().literal()));
         if (matchAndConsumeAny(STRING)) return new Expression.Literal(new GString((String) previous().literal()));
 
         // Identifiers
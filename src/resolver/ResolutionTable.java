@@ -0,0 +1,149 @@
+package resolver;
+
+import interpreter.datatypes.GString;
+import interpreter.lambda.InlineCache;
+import interpreter.runtime.PropertyCache;
+import interpreter.runtime.StackSlot;
+import model.Expression;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The output of resolving a single compilation unit: the stack slot of every local variable reference, the number of
+ * slots required by every scope-introducing expression (blocks and lambdas), every block whose scope was elided or
+ * whose frame may be reused across loop iterations, every invocation which is in the tail position of a lambda body,
+ * the InlineCache of every invocation site, and the PropertyCache of every field access with a literal field name.
+ *
+ * Entries are keyed by node identity rather than by the structural equality of the Expression records. This keeps
+ * lookups O(1) regardless of the size of the node, and ensures that two structurally identical nodes in different
+ * scopes (eg: the same variable name on the same line) do not overwrite each other's resolution.
+ */
+public class ResolutionTable {
+    private final Map<Expression, StackSlot> stackSlots = new IdentityHashMap<>();
+    private final Map<Expression, Integer> scopeSizes = new IdentityHashMap<>();
+    private final Set<Expression> elidedScopes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Expression> reusableScopes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Expression> tailCalls = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Expression, InlineCache> inlineCaches = new IdentityHashMap<>();
+    private final Map<Expression, PropertyCache> propertyCaches = new IdentityHashMap<>();
+
+    public void resolveStackSlot(Expression expression, int depth, int slot) {
+        stackSlots.put(expression, new StackSlot(depth, slot));
+    }
+
+    public void resolveScopeSize(Expression scope, int size) {
+        scopeSizes.put(scope, size);
+    }
+
+    /**
+     * Marks a block which introduces no variables of its own, and is therefore executed in its enclosing frame
+     */
+    public void resolveElidedScope(Expression.Block block) {
+        elidedScopes.add(block);
+    }
+
+    /**
+     * Marks the body of a loop whose variables cannot be captured by a closure, and therefore never outlive a single
+     * iteration. One frame may be cleared and reused for every iteration of such a body.
+     */
+    public void resolveReusableScope(Expression.Block block) {
+        reusableScopes.add(block);
+    }
+
+    public void resolveTailCall(Expression invocation) {
+        tailCalls.add(invocation);
+    }
+
+    public void resolveInvocationSite(Expression.Invocation invocation) {
+        inlineCaches.put(invocation, new InlineCache());
+    }
+
+    /**
+     * Registers an Index or IndexAssignment whose index is the given literal field name
+     */
+    public void resolvePropertySite(Expression site, GString fieldName) {
+        propertyCaches.put(site, new PropertyCache(fieldName));
+    }
+
+    /**
+     * @return the resolved stack slot of the given variable expression, or null if it refers to a global variable
+     */
+    public StackSlot lookUpStackSlot(Expression expression) {
+        return stackSlots.get(expression);
+    }
+
+    public int lookUpScopeSize(Expression scope) {
+        return scopeSizes.getOrDefault(scope, 0);
+    }
+
+    public boolean isScopeElided(Expression.Block block) {
+        return elidedScopes.contains(block);
+    }
+
+    public boolean isScopeReusable(Expression.Block block) {
+        return reusableScopes.contains(block);
+    }
+
+    public boolean isTailCall(Expression invocation) {
+        return tailCalls.contains(invocation);
+    }
+
+    /**
+     * @return the InlineCache of the given invocation site, or null if it was not resolved
+     */
+    public InlineCache lookUpInlineCache(Expression.Invocation invocation) {
+        return inlineCaches.get(invocation);
+    }
+
+    /**
+     * @return the PropertyCache of the given field access site, or null if its field name is not a literal
+     */
+    public PropertyCache lookUpPropertyCache(Expression site) {
+        return propertyCaches.get(site);
+    }
+
+    /*
+     * The read-only views below expose every entry of the table, so that it can be persisted (see cache.ScriptCache)
+     */
+
+    public Map<Expression, StackSlot> getStackSlots() {
+        return Collections.unmodifiableMap(stackSlots);
+    }
+
+    public Map<Expression, Integer> getScopeSizes() {
+        return Collections.unmodifiableMap(scopeSizes);
+    }
+
+    public Set<Expression> getElidedScopes() {
+        return Collections.unmodifiableSet(elidedScopes);
+    }
+
+    public Set<Expression> getReusableScopes() {
+        return Collections.unmodifiableSet(reusableScopes);
+    }
+
+    public Set<Expression> getTailCalls() {
+        return Collections.unmodifiableSet(tailCalls);
+    }
+
+    public Set<Expression> getInvocationSites() {
+        return Collections.unmodifiableSet(inlineCaches.keySet());
+    }
+
+    public Map<Expression, PropertyCache> getPropertySites() {
+        return Collections.unmodifiableMap(propertyCaches);
+    }
+
+    public void merge(ResolutionTable other) {
+        stackSlots.putAll(other.stackSlots);
+        scopeSizes.putAll(other.scopeSizes);
+        elidedScopes.addAll(other.elidedScopes);
+        reusableScopes.addAll(other.reusableScopes);
+        tailCalls.addAll(other.tailCalls);
+        inlineCaches.putAll(other.inlineCaches);
+        propertyCaches.putAll(other.propertyCaches);
+    }
+}
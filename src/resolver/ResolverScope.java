@@ -0,0 +1,35 @@
+package resolver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The variables declared within a single local scope during resolution, along with the slot each variable occupies in
+ * the scope's runtime environment. Slots are handed out in declaration order, so lambda parameters occupy the leading
+ * slots of a lambda's scope.
+ */
+public class ResolverScope {
+    private final Map<String, VariableInitializationState> variableStates = new HashMap<>();
+    private final Map<String, Integer> variableSlots = new HashMap<>();
+
+    public boolean contains(String name) {
+        return variableStates.containsKey(name);
+    }
+
+    public VariableInitializationState getState(String name) {
+        return variableStates.get(name);
+    }
+
+    public void setState(String name, VariableInitializationState state) {
+        variableStates.put(name, state);
+        variableSlots.putIfAbsent(name, variableSlots.size());
+    }
+
+    public int getSlot(String name) {
+        return variableSlots.get(name);
+    }
+
+    public int getSize() {
+        return variableSlots.size();
+    }
+}
@@ -0,0 +1,84 @@
+package resolver;
+
+import model.Expression;
+import model.SugarExpression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Static analyses of the variables a scope introduces, which the resolver uses to decide whether a scope needs a frame
+ * of its own at runtime.
+ */
+public class ScopeAnalyzer {
+    /**
+     * @return the names of every variable declared directly in the scope of the given block. Variables declared in
+     * nested blocks and lambdas belong to their own scopes, and are not included.
+     */
+    public static Set<String> collectDeclaredNames(Expression.Block block) {
+        Set<String> declaredNames = new HashSet<>();
+        block.expressions().forEach(expression -> collectDeclaredNames(expression, declaredNames));
+        return declaredNames;
+    }
+
+    /**
+     * @return true if a lambda is created anywhere within the given expression, in which case variables in scope of the
+     * expression may be captured by a closure and outlive their frame
+     */
+    public static boolean containsLambda(Expression expression) {
+        if (expression instanceof Expression.Lambda) return true;
+        return getChildren(expression).stream().anyMatch(ScopeAnalyzer::containsLambda);
+    }
+
+    private static void collectDeclaredNames(Expression expression, Set<String> declaredNames) {
+        switch (expression) {
+            case Expression.Block ignored -> { /* introduces its own scope */ }
+            case Expression.Lambda ignored -> { /* introduces its own scope */ }
+            case Expression.Declaration declaration -> {
+                declaredNames.add(declaration.variable().lexeme());
+                if (declaration.initializer() != null) collectDeclaredNames(declaration.initializer(), declaredNames);
+            }
+            default -> getChildren(expression).forEach(child -> collectDeclaredNames(child, declaredNames));
+        }
+    }
+
+    private static List<Expression> getChildren(Expression expression) {
+        List<Expression> children = switch (expression) {
+            case Expression.Literal ignored -> Collections.emptyList();
+            case Expression.Variable ignored -> Collections.emptyList();
+            case Expression.ListLiteral listLiteral -> listLiteral.values();
+            case Expression.StructFieldDeclaration fieldDeclaration -> Collections.singletonList(fieldDeclaration.initializer());
+            case Expression.StructLiteral structLiteral -> structLiteral.fields();
+            case Expression.Declaration declaration -> Collections.singletonList(declaration.initializer());
+            case Expression.Assignment assignment -> Collections.singletonList(assignment.value());
+            case Expression.IndexAssignment indexAssignment -> List.of(
+                    indexAssignment.assignee(),
+                    indexAssignment.index(),
+                    indexAssignment.value());
+            case Expression.Index index -> List.of(index.callee(), index.index());
+            case Expression.Group group -> Collections.singletonList(group.expression());
+            case Expression.Unary unary -> Collections.singletonList(unary.right());
+            case Expression.Binary binary -> List.of(binary.left(), binary.right());
+            case Expression.Block block -> block.expressions();
+            case Expression.If ifExpression -> Arrays.asList(
+                    ifExpression.condition(),
+                    ifExpression.thenBranch(),
+                    ifExpression.elseBranch());
+            case Expression.While whileExpression -> List.of(whileExpression.condition(), whileExpression.body());
+            case Expression.Invocation invocation -> {
+                List<Expression> invocationChildren = new ArrayList<>(invocation.arguments());
+                invocationChildren.add(invocation.callee());
+                yield invocationChildren;
+            }
+            case Expression.Lambda lambda -> Collections.singletonList(lambda.body());
+            case SugarExpression ignored -> Collections.emptyList();
+        };
+        // Optional child expressions, such as the else branch of an If, are null when absent
+        return children.stream().filter(Objects::nonNull).toList();
+    }
+}
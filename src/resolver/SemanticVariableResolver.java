@@ -1,9 +1,9 @@
 package resolver;
 
 import com.google.inject.Inject;
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import error.ErrorReporter;
-import interpreter.Interpreter;
+import interpreter.datatypes.GString;
 import interpreter.errors.RuntimeError;
 import lombok.RequiredArgsConstructor;
 import model.Expression;
@@ -15,21 +15,19 @@ import java.util.*;
 import static resolver.VariableInitializationState.DECLARED;
 import static resolver.VariableInitializationState.DEFINED;
 
-@Singleton
+@ExecutionScoped
 @RequiredArgsConstructor(onConstructor_ = { @Inject})
 public class SemanticVariableResolver implements Resolver {
     private final ErrorReporter errorReporter;
-    private Interpreter interpreter;
-    private final Stack<Map<String, VariableInitializationState>> callStackVariableState = new Stack<>();
+    private final Stack<ResolverScope> callStackVariableState = new Stack<>();
+    private ResolutionTable resolutionTable;
 
     @Override
-    public void resolveProgram(Interpreter interpreter, List<Expression> expressions) {
-        loadInterpreter(interpreter);
+    public ResolutionTable resolveProgram(List<Expression> expressions) {
+        resolutionTable = new ResolutionTable();
+        callStackVariableState.clear();
         expressions.forEach(this::resolveExpression);
-    }
-
-    private void loadInterpreter(Interpreter interpreter) {
-        this.interpreter = interpreter;
+        return resolutionTable;
     }
 
     private void resolveExpression(Expression expression) {
@@ -46,21 +44,24 @@ public class SemanticVariableResolver implements Resolver {
                 resolveExpression(indexAssignment.assignee());
                 resolveExpression(indexAssignment.index());
                 resolveExpression(indexAssignment.value());
+                resolvePropertySite(indexAssignment, indexAssignment.index());
             }
             case Expression.Index index -> {
                 resolveExpression(index.callee());
                 resolveExpression(index.index());
+                resolvePropertySite(index, index.index());
             }
             case Expression.Declaration declaration -> {
                 declare(declaration.variable());
                 if (declaration.initializer() != null) resolveExpression(declaration.initializer());
                 define(declaration.variable());
+                resolveCallStackScope(declaration, declaration.variable());
             }
             case Expression.Variable variable -> {
                 // Prevent referencing undefined variables
                 var variableState = callStackVariableState.isEmpty()
                         ? null
-                        : callStackVariableState.peek().get(variable.name().lexeme());
+                        : callStackVariableState.peek().getState(variable.name().lexeme());
                 if (Objects.equals(variableState, DECLARED)) {
                     errorReporter.reportErrorAtToken(variable.name(), "Cannot reference local variable in its own initializer.");
                 }
@@ -73,9 +74,14 @@ public class SemanticVariableResolver implements Resolver {
                 resolveExpression(binary.right());
             }
             case Expression.Block block -> {
-                beginScope();
-                block.expressions().forEach(this::resolveExpression);
-                endScope();
+                // A block which declares no variables has nothing to store in a frame of its own
+                if (ScopeAnalyzer.collectDeclaredNames(block).isEmpty()) {
+                    resolveElidedBlock(block);
+                } else {
+                    beginScope();
+                    block.expressions().forEach(this::resolveExpression);
+                    endScope(block);
+                }
             }
             case Expression.If ifExpression -> {
                 resolveExpression(ifExpression.condition());
@@ -85,10 +91,16 @@ public class SemanticVariableResolver implements Resolver {
             case Expression.While whileExpression -> {
                 resolveExpression(whileExpression.condition());
                 resolveExpression(whileExpression.body());
+                if (whileExpression.body() instanceof Expression.Block body
+                        && !resolutionTable.isScopeElided(body)
+                        && !ScopeAnalyzer.containsLambda(body)) {
+                    resolutionTable.resolveReusableScope(body);
+                }
             }
             case Expression.Invocation invocation -> {
                 resolveExpression(invocation.callee());
                 invocation.arguments().forEach(this::resolveExpression);
+                resolutionTable.resolveInvocationSite(invocation);
             }
             case Expression.Lambda lambda -> {
                 beginScope();
@@ -96,19 +108,60 @@ public class SemanticVariableResolver implements Resolver {
                     declare(parameter);
                     define(parameter);
                 });
-                resolveExpression(lambda.body());
-                endScope();
+                // A block body shares the frame of its lambda's parameters, unless it shadows a parameter
+                if (lambda.body() instanceof Expression.Block body
+                        && Collections.disjoint(
+                                ScopeAnalyzer.collectDeclaredNames(body),
+                                lambda.parameters().stream().map(Token::lexeme).toList())) {
+                    resolveElidedBlock(body);
+                } else {
+                    resolveExpression(lambda.body());
+                }
+                resolveTailCalls(lambda.body());
+                endScope(lambda);
             }
             case SugarExpression sugarExpression -> throw new RuntimeError(sugarExpression.getErrorReportingToken(), "A sugar expression was encountered in the interpreter, which caused it to panic. This expression cannot be interpreted, and should have been desugared before interpretation. This is a bug in the GryphonScipt language implementation.");
         }
     }
 
+    /**
+     * Marks the invocations whose result is directly returned by the enclosing lambda, so that the interpreter may
+     * execute them without growing the call stack.
+     */
+    private void resolveTailCalls(Expression tailExpression) {
+        switch (tailExpression) {
+            case Expression.Invocation invocation -> resolutionTable.resolveTailCall(invocation);
+            case Expression.Binary.Infix infix -> resolutionTable.resolveTailCall(infix);
+            case Expression.Group group -> resolveTailCalls(group.expression());
+            case Expression.Block block -> {
+                if (!block.expressions().isEmpty()) resolveTailCalls(block.expressions().getLast());
+            }
+            case Expression.If ifExpression -> {
+                resolveTailCalls(ifExpression.thenBranch());
+                if (ifExpression.elseBranch() != null) resolveTailCalls(ifExpression.elseBranch());
+            }
+            default -> { /* not a tail call */ }
+        }
+    }
+
+    private void resolvePropertySite(Expression site, Expression index) {
+        if (index instanceof Expression.Literal literal && literal.value() instanceof GString fieldName) {
+            resolutionTable.resolvePropertySite(site, fieldName);
+        }
+    }
+
+    private void resolveElidedBlock(Expression.Block block) {
+        resolutionTable.resolveElidedScope(block);
+        block.expressions().forEach(this::resolveExpression);
+    }
+
     private void beginScope() {
-        callStackVariableState.push(new HashMap<>());
+        callStackVariableState.push(new ResolverScope());
     }
 
-    private void endScope() {
-        callStackVariableState.pop();
+    private void endScope(Expression scopeExpression) {
+        var scope = callStackVariableState.pop();
+        resolutionTable.resolveScopeSize(scopeExpression, scope.getSize());
     }
 
     private void declare(Token name) {
@@ -116,25 +169,26 @@ public class SemanticVariableResolver implements Resolver {
 
         // Prevents re-declaration of a variable in a non-global scope:
         var scope = callStackVariableState.peek();
-        if (scope.containsKey(name.lexeme())) {
+        if (scope.contains(name.lexeme())) {
             errorReporter.reportErrorAtToken(name, "A variable with this name already is declared in this scope");
         }
 
-        scope.put(name.lexeme(), DECLARED);
+        scope.setState(name.lexeme(), DECLARED);
     }
 
     private void define(Token name) {
         if (callStackVariableState.isEmpty()) return;
 
         var scope = callStackVariableState.peek();
-        scope.put(name.lexeme(), DEFINED);
+        scope.setState(name.lexeme(), DEFINED);
     }
 
     private void resolveCallStackScope(Expression expression, Token variableName) {
         for (int i = callStackVariableState.size() - 1; i >= 0; i--) {
-            if (callStackVariableState.get(i).containsKey(variableName.lexeme())) {
+            var scope = callStackVariableState.get(i);
+            if (scope.contains(variableName.lexeme())) {
                 var reverseIndex = callStackVariableState.size() - 1 - i;
-                interpreter.resolveStackVariableAtDepth(expression, reverseIndex);
+                resolutionTable.resolveStackSlot(expression, reverseIndex, scope.getSlot(variableName.lexeme()));
                 return;
             }
         }
@@ -1,9 +1,10 @@
 package tokenizer;
 
 import com.google.inject.Inject;
-import com.google.inject.Singleton;
+import config.ExecutionScoped;
 import error.ErrorReporter;
 import lombok.RequiredArgsConstructor;
+import model.SymbolTable;
 import model.Token;
 import model.TokenType;
 
@@ -16,7 +17,7 @@ import java.util.function.Supplier;
 import static model.TokenType.*;
 import static model.TokenType.INFIX;
 
-@Singleton
+@ExecutionScoped
 @RequiredArgsConstructor(onConstructor_ = { @Inject })
 public class LexicalTokenizer implements Tokenizer {
     private static final char NULL_CHAR = '\0';
@@ -113,6 +114,8 @@ public class LexicalTokenizer implements Tokenizer {
 
     private Optional<Token> createToken(TokenType type, Object literal) {
         String lexeme = source.substring(start, current);
+        // Identifiers are interned, so that variable lookups compare names by identity
+        if (type == IDENTIFIER) lexeme = SymbolTable.internName(lexeme);
         boolean isOnNewLine = prevLineNumber < lineNumber;
         return Optional.of(new Token(type, lexeme, literal, lineNumber, isOnNewLine));
     }
@@ -285,7 +288,7 @@ public class LexicalTokenizer implements Tokenizer {
 
         return isDouble
                 ? createToken(DOUBLE, Double.parseDouble(cleanedNumber))
-                : createToken(INTEGER, Integer.parseInt(cleanedNumber));
+                : createToken(INTEGER, Long.parseLong(cleanedNumber));
     }
 
     private Optional<Token> consumeIdentifier() {
@@ -0,0 +1,78 @@
+package util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent table of canonical values, which are only held weakly. A value which is no longer referenced elsewhere
+ * is removed once it has been garbage collected, and interning its key again afterwards creates a new canonical value.
+ * Keys are held strongly until their entry is removed, so they must not refer to their value.
+ *
+ * Collected entries are removed by the next call to {@link #intern}. Many small interners may instead share one queue
+ * of collected values, so that interning into any of them removes the collected entries of all of them.
+ */
+public final class WeakInterner<K, V> {
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> collectedValues;
+
+    public WeakInterner() {
+        this(new ReferenceQueue<>());
+    }
+
+    public WeakInterner(ReferenceQueue<V> collectedValues) {
+        this.collectedValues = collectedValues;
+    }
+
+    /**
+     * @return the canonical value of the given key, which is created by the given factory if there is none. The factory
+     * may be called by several threads at once, in which case only one of the values it creates becomes canonical.
+     */
+    public V intern(K key, Function<? super K, ? extends V> factory) {
+        removeCollectedEntries();
+        while (true) {
+            Entry<K, V> entry = entries.get(key);
+            V canonical = entry != null ? entry.get() : null;
+            if (canonical != null) return canonical;
+
+            canonical = factory.apply(key);
+            Entry<K, V> newEntry = new Entry<>(entries, key, canonical, collectedValues);
+            boolean added = entry == null
+                    ? entries.putIfAbsent(key, newEntry) == null
+                    : entries.replace(key, entry, newEntry);
+            // Otherwise another thread interned the key first, so its value is the canonical one
+            if (added) return canonical;
+        }
+    }
+
+    /**
+     * @return the canonical value of the given key, or null if it has none
+     */
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        return entry != null ? entry.get() : null;
+    }
+
+    private void removeCollectedEntries() {
+        Object collected;
+        while ((collected = collectedValues.poll()) != null) {
+            Entry<?, ?> entry = (Entry<?, ?>) collected;
+            // The key may have been interned again since, in which case its new entry is kept
+            entry.owner.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+        // The entries of the interner which holds this entry, which may differ from the interner which polls its queue
+        private final Map<K, Entry<K, V>> owner;
+        private final K key;
+
+        private Entry(Map<K, Entry<K, V>> owner, K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.owner = owner;
+            this.key = key;
+        }
+    }
+}